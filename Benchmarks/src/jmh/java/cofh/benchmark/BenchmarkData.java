@@ -0,0 +1,85 @@
+package cofh.benchmark;
+
+import cofh.core.inventory.ItemStackHolder;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.util.registry.Registry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared fixtures for benchmarks: bootstraps the vanilla registries once and hands out deterministic synthetic data.
+ * <p>
+ * Synthetic recipes are built from vanilla items (and tagged stacks / fluids where the key allows it), so registry
+ * sizes past the item count are reached through combinations rather than by registering new items.
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 0x5EEDL;
+    public static final int QUERIES = 4096;
+    public static final int HIT_SAMPLES = 64;
+
+    private static List<Item> items;
+
+    private BenchmarkData() {
+
+    }
+
+    public static synchronized List<Item> items() {
+
+        if (items == null) {
+            Bootstrap.register();
+            List<Item> list = new ArrayList<>();
+            for (Item item : Registry.ITEM) {
+                if (item != Items.AIR) {
+                    list.add(item);
+                }
+            }
+            items = Collections.unmodifiableList(list);
+        }
+        return items;
+    }
+
+    public static Random random() {
+
+        return new Random(SEED);
+    }
+
+    public static ItemStack stack(int index) {
+
+        List<Item> items = items();
+        return new ItemStack(items.get(Math.floorMod(index, items.size())));
+    }
+
+    public static ItemStack taggedStack(int index, int variant) {
+
+        ItemStack stack = stack(index);
+        CompoundNBT tag = new CompoundNBT();
+        tag.putInt("Variant", variant);
+        stack.setTag(tag);
+        return stack;
+    }
+
+    public static ItemStackHolder holder(ItemStack stack) {
+
+        return new ItemStackHolder(stack);
+    }
+
+    /**
+     * Fails the trial when a query that should hit finds nothing, so a broken key is not measured as a fast miss.
+     */
+    public static <T> T requireHit(T result, String query) {
+
+        if (result == null) {
+            throw new IllegalStateException("No recipe found for " + query);
+        }
+        return result;
+    }
+
+}
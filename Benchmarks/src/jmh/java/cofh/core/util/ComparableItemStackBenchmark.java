@@ -0,0 +1,82 @@
+package cofh.core.util;
+
+import cofh.benchmark.BenchmarkData;
+import cofh.core.util.helpers.ItemHelper;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.item.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stack comparison primitives used by recipe keys and slot filters. Keyed lookups convert a fresh ItemStack per query,
+ * as callers do, so allocation is part of the measurement. The map is capped at the number of vanilla items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparableItemStackBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int recipes;
+
+    protected Map<ComparableItemStack, Integer> map;
+    protected ItemStack[] queries;
+    protected ItemStack[] others;
+    protected ComparableItemStack[] keys;
+    protected int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        int items = BenchmarkData.items().size();
+        map = new Object2ObjectOpenHashMap<>(recipes);
+        for (int n = 0; n < recipes; ++n) {
+            map.put(new ComparableItemStack(BenchmarkData.stack(n)), n);
+        }
+        Random rand = BenchmarkData.random();
+        queries = new ItemStack[BenchmarkData.QUERIES];
+        others = new ItemStack[BenchmarkData.QUERIES];
+        keys = new ComparableItemStack[BenchmarkData.QUERIES];
+        for (int i = 0; i < queries.length; ++i) {
+            int n = rand.nextInt(items);
+            queries[i] = BenchmarkData.taggedStack(n, rand.nextInt(4));
+            others[i] = BenchmarkData.taggedStack(rand.nextBoolean() ? n : rand.nextInt(items), rand.nextInt(4));
+            keys[i] = new ComparableItemStack(queries[i]);
+        }
+    }
+
+    @Benchmark
+    public Integer convertAndGet() {
+
+        cursor = (cursor + 1) & (BenchmarkData.QUERIES - 1);
+        return map.get(new ComparableItemStack(queries[cursor]));
+    }
+
+    @Benchmark
+    public int hashCodeOnly() {
+
+        cursor = (cursor + 1) & (BenchmarkData.QUERIES - 1);
+        return keys[cursor].hashCode();
+    }
+
+    @Benchmark
+    public boolean equality() {
+
+        cursor = (cursor + 1) & (BenchmarkData.QUERIES - 1);
+        return keys[cursor].equals(keys[(cursor + 1) & (BenchmarkData.QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public boolean itemsEqualWithTags() {
+
+        cursor = (cursor + 1) & (BenchmarkData.QUERIES - 1);
+        return ItemHelper.itemsEqualWithTags(queries[cursor], others[cursor]);
+    }
+
+}
@@ -0,0 +1,88 @@
+package cofh.thermal.core.util.managers;
+
+import cofh.benchmark.BenchmarkData;
+import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.RecipeManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-item lookups. Keys are item ids, so the effective registry size is capped at the number of vanilla items;
+ * larger sizes measure the same table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingleItemRecipeManagerBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int recipes;
+
+    @Param({"0.5"})
+    public double hitRate;
+
+    protected Manager manager;
+    protected ItemStack[] queries;
+    protected int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        int count = Math.min(recipes, BenchmarkData.items().size());
+        manager = new Manager();
+        for (int i = 0; i < count; ++i) {
+            manager.addRecipe(manager.getDefaultEnergy(), 0.0F, -1, Collections.singletonList(BenchmarkData.stack(i)), Collections.emptyList(), Collections.singletonList(BenchmarkData.stack(i + 1)), Collections.emptyList(), Collections.emptyList());
+        }
+        Random rand = BenchmarkData.random();
+        queries = new ItemStack[BenchmarkData.QUERIES];
+        for (int i = 0; i < queries.length; ++i) {
+            boolean hit = rand.nextDouble() < hitRate || count == BenchmarkData.items().size();
+            queries[i] = BenchmarkData.stack(hit ? rand.nextInt(count) : count + rand.nextInt(BenchmarkData.items().size() - count));
+        }
+        for (int i = 0; i < BenchmarkData.HIT_SAMPLES; ++i) {
+            int n = rand.nextInt(count);
+            BenchmarkData.requireHit(manager.getRecipe(BenchmarkData.stack(n)), "recipe " + n);
+        }
+    }
+
+    @Benchmark
+    public IMachineRecipe getRecipe() {
+
+        cursor = (cursor + 1) & (BenchmarkData.QUERIES - 1);
+        return manager.getRecipe(queries[cursor]);
+    }
+
+    @Benchmark
+    public boolean validRecipe() {
+
+        cursor = (cursor + 1) & (BenchmarkData.QUERIES - 1);
+        return manager.validRecipe(queries[cursor]);
+    }
+
+    protected static class Manager extends SingleItemRecipeManager {
+
+        protected Manager() {
+
+            super(4000, 1, 0);
+        }
+
+        @Override
+        public void config() {
+
+        }
+
+        @Override
+        public void refresh(RecipeManager recipeManager) {
+
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package cofh.thermal.expansion.util.managers.machine;
+
+import cofh.benchmark.BenchmarkData;
+import cofh.core.fluid.FluidStackHolder;
+import cofh.core.inventory.ItemStackHolder;
+import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraftforge.fluids.FluidStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static cofh.core.util.constants.Constants.BUCKET_VOLUME;
+
+/**
+ * Item + fluid Brewer lookups. Fluids are water with a variant tag, standing in for potion fluids; recipe n uses item
+ * (n mod items) and variant (n / items), so fluid keys are tag-sensitive just like potions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrewerRecipeManagerBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int recipes;
+
+    @Param({"0.5"})
+    public double hitRate;
+
+    protected BrewerRecipeManager manager;
+    protected List<ItemStackHolder>[] itemQueries;
+    protected List<FluidStackHolder>[] fluidQueries;
+    protected int cursor;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+
+        int items = BenchmarkData.items().size();
+        manager = BrewerRecipeManager.instance();
+        manager.clear();
+        for (int n = 0; n < recipes; ++n) {
+            manager.addRecipe(manager.getDefaultEnergy(), 0.0F, -1, Collections.singletonList(BenchmarkData.stack(n % items)), Collections.singletonList(fluid(n / items)), Collections.emptyList(), Collections.emptyList(), Collections.singletonList(fluid(-1 - n)));
+        }
+        Random rand = BenchmarkData.random();
+        itemQueries = new List[BenchmarkData.QUERIES];
+        fluidQueries = new List[BenchmarkData.QUERIES];
+        for (int i = 0; i < itemQueries.length; ++i) {
+            int n = rand.nextDouble() < hitRate ? rand.nextInt(recipes) : recipes + rand.nextInt(items);
+            itemQueries[i] = Collections.singletonList(BenchmarkData.holder(BenchmarkData.stack(n % items)));
+            fluidQueries[i] = Collections.singletonList(new FluidStackHolder(fluid(n / items)));
+        }
+        // Fresh 1000 mB stacks, as a tank would hold; fluid keys must not depend on the amount.
+        for (int i = 0; i < BenchmarkData.HIT_SAMPLES; ++i) {
+            int n = rand.nextInt(recipes);
+            BenchmarkData.requireHit(manager.getRecipe(Collections.singletonList(BenchmarkData.holder(BenchmarkData.stack(n % items))), Collections.singletonList(new FluidStackHolder(fluid(n / items)))), "recipe " + n);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        manager.clear();
+    }
+
+    @Benchmark
+    public IMachineRecipe getRecipe() {
+
+        cursor = (cursor + 1) & (BenchmarkData.QUERIES - 1);
+        return manager.getRecipe(itemQueries[cursor], fluidQueries[cursor]);
+    }
+
+    protected static FluidStack fluid(int variant) {
+
+        CompoundNBT tag = new CompoundNBT();
+        tag.putInt("Variant", variant);
+        return new FluidStack(Fluids.WATER, BUCKET_VOLUME, tag);
+    }
+
+}
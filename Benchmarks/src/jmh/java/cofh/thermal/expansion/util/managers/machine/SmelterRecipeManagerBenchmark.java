@@ -0,0 +1,81 @@
+package cofh.thermal.expansion.util.managers.machine;
+
+import cofh.benchmark.BenchmarkData;
+import cofh.core.inventory.ItemStackHolder;
+import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
+import net.minecraft.item.crafting.Ingredient;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two-ingredient Smelter lookups, inputs in either order. Recipe n pairs item (n mod items) with the item offset by
+ * (n / items) + 1, so every registry size up to ~900k is distinct.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmelterRecipeManagerBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int recipes;
+
+    @Param({"0.5"})
+    public double hitRate;
+
+    protected SmelterRecipeManager manager;
+    protected List<ItemStackHolder>[] queries;
+    protected int cursor;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+
+        int items = BenchmarkData.items().size();
+        manager = SmelterRecipeManager.instance();
+        manager.clear();
+        for (int n = 0; n < recipes; ++n) {
+            int a = n % items;
+            int b = a + n / items + 1;
+            manager.addRecipe(manager.getDefaultEnergy(), 0.0F, -1, Arrays.asList(Ingredient.fromStacks(BenchmarkData.stack(a)), Ingredient.fromStacks(BenchmarkData.stack(b))), Collections.emptyList(), Collections.singletonList(BenchmarkData.stack(a + b)), Collections.emptyList(), Collections.emptyList());
+        }
+        Random rand = BenchmarkData.random();
+        queries = new List[BenchmarkData.QUERIES];
+        for (int i = 0; i < queries.length; ++i) {
+            int n = rand.nextDouble() < hitRate ? rand.nextInt(recipes) : recipes + rand.nextInt(items);
+            int a = n % items;
+            int b = a + n / items + 1;
+            queries[i] = rand.nextBoolean()
+                    ? Arrays.asList(BenchmarkData.holder(BenchmarkData.stack(a)), BenchmarkData.holder(BenchmarkData.stack(b)))
+                    : Arrays.asList(BenchmarkData.holder(BenchmarkData.stack(b)), BenchmarkData.holder(BenchmarkData.stack(a)));
+        }
+        for (int i = 0; i < BenchmarkData.HIT_SAMPLES; ++i) {
+            int n = rand.nextInt(recipes);
+            int a = n % items;
+            int b = a + n / items + 1;
+            BenchmarkData.requireHit(manager.getRecipe(Arrays.asList(BenchmarkData.holder(BenchmarkData.stack(a)), BenchmarkData.holder(BenchmarkData.stack(b))), Collections.emptyList()), "recipe " + n);
+            BenchmarkData.requireHit(manager.getRecipe(Arrays.asList(BenchmarkData.holder(BenchmarkData.stack(b)), BenchmarkData.holder(BenchmarkData.stack(a))), Collections.emptyList()), "recipe " + n + ", reversed");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        manager.clear();
+    }
+
+    @Benchmark
+    public IMachineRecipe getRecipe() {
+
+        cursor = (cursor + 1) & (BenchmarkData.QUERIES - 1);
+        return manager.getRecipe(queries[cursor], Collections.emptyList());
+    }
+
+}
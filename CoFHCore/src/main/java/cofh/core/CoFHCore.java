@@ -81,6 +81,8 @@ public class CoFHCore {
         PACKET_HANDLER.registerPacket(PACKET_GUI, TileGuiPacket::new);
         PACKET_HANDLER.registerPacket(PACKET_REDSTONE, TileRedstonePacket::new);
         PACKET_HANDLER.registerPacket(PACKET_STATE, TileStatePacket::new);
+        PACKET_HANDLER.registerPacket(PACKET_TILE_UPDATES, TileUpdatesPacket::new);
+        PACKET_HANDLER.registerPacket(PACKET_FLUID_PALETTE, FluidPalettePacket::new);
 
         PACKET_HANDLER.registerPacket(PACKET_CHAT, IndexedChatPacket::new);
 
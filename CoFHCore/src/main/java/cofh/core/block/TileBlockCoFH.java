@@ -21,14 +21,23 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockRayTraceResult;
 import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraft.world.IBlockReader;
+import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.network.NetworkHooks;
 
 import javax.annotation.Nullable;
 import java.util.function.Supplier;
 
+import static cofh.core.util.constants.Constants.ACTIVE;
+
 public abstract class TileBlockCoFH extends Block implements IDismantleable, IWrenchable {
 
+    /**
+     * Set by mods which use {@link TileCoFH#hasActiveLight()}. While FALSE, light values never look up the Tile.
+     */
+    public static boolean enableTileActiveLight = false;
+
     protected final Supplier<? extends TileCoFH> supplier;
 
     public TileBlockCoFH(Properties builder, Supplier<? extends TileCoFH> supplier) {
@@ -49,6 +58,30 @@ public abstract class TileBlockCoFH extends Block implements IDismantleable, IWr
         return supplier.get().worldContext(state, world);
     }
 
+    @Override
+    public int getLightValue(BlockState state, IBlockReader world, BlockPos pos) {
+
+        // Server light updates run off-thread and must not touch Tiles; only client readers are checked.
+        if (enableTileActiveLight && state.hasProperty(ACTIVE) && !state.get(ACTIVE) && isClientReader(world)) {
+            TileEntity tile = world.getTileEntity(pos);
+            if (tile instanceof TileCoFH && ((TileCoFH) tile).hasActiveLight()) {
+                return state.with(ACTIVE, true).getLightValue();
+            }
+        }
+        return super.getLightValue(state, world, pos);
+    }
+
+    protected static boolean isClientReader(IBlockReader world) {
+
+        if (world instanceof World) {
+            return ((World) world).isRemote;
+        }
+        if (world instanceof Chunk) {
+            return ((Chunk) world).getWorld().isRemote;
+        }
+        return false;
+    }
+
     @Override
     public ActionResultType onBlockActivated(BlockState state, World worldIn, BlockPos pos, PlayerEntity player, Hand handIn, BlockRayTraceResult hit) {
 
@@ -92,6 +125,15 @@ public abstract class TileBlockCoFH extends Block implements IDismantleable, IWr
         super.neighborChanged(state, worldIn, pos, blockIn, fromPos, isMoving);
     }
 
+    @Override
+    public void onNeighborChange(BlockState state, IWorldReader world, BlockPos pos, BlockPos neighbor) {
+
+        TileEntity tile = world.getTileEntity(pos);
+        if (tile instanceof TileCoFH) {
+            ((TileCoFH) tile).neighborTileChanged(neighbor);
+        }
+    }
+
     @Override
     public void onBlockPlacedBy(World worldIn, BlockPos pos, BlockState state, @Nullable LivingEntity placer, ItemStack stack) {
 
@@ -27,6 +27,7 @@ public class CoFHCommand {
                 .then(SubCommandIgnite.register())
                 .then(SubCommandInvis.register())
                 .then(SubCommandInvuln.register())
+                .then(SubCommandProfile.register())
                 .then(SubCommandRepair.register())
                 .then(SubCommandZap.register())
         );
@@ -0,0 +1,40 @@
+package cofh.core.command;
+
+import cofh.core.util.TileTickProfiler;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.text.TranslationTextComponent;
+
+import static cofh.core.util.constants.Constants.CMD_TICKS;
+
+public class SubCommandProfile {
+
+    public static int permissionLevel = 3;
+
+    public static final int DEFAULT_TICKS = 200;
+    public static final int MAX_TICKS = 72000;
+
+    static ArgumentBuilder<CommandSource, ?> register() {
+
+        return Commands.literal("profile")
+                .requires(source -> source.hasPermissionLevel(permissionLevel))
+                // Default Duration
+                .executes(context -> startProfile(context.getSource(), DEFAULT_TICKS))
+                // Duration Specified
+                .then(Commands.argument(CMD_TICKS, IntegerArgumentType.integer(1, MAX_TICKS))
+                        .executes(context -> startProfile(context.getSource(), IntegerArgumentType.getInteger(context, CMD_TICKS))));
+    }
+
+    private static int startProfile(CommandSource source, int ticks) {
+
+        if (!TileTickProfiler.start(source, ticks)) {
+            source.sendErrorMessage(new TranslationTextComponent("commands.cofh.profile.failure.running"));
+            return 0;
+        }
+        source.sendFeedback(new TranslationTextComponent("commands.cofh.profile.success", ticks), true);
+        return ticks;
+    }
+
+}
@@ -23,6 +23,8 @@ public class EnergyStorageCoFH implements IEnergyStorage, IResourceStorage, INBT
     protected int maxReceive;
     protected int maxExtract;
 
+    protected Runnable receiveCallback;
+
     public EnergyStorageCoFH(int capacity) {
 
         this(capacity, capacity, capacity, 0);
@@ -77,6 +79,15 @@ public class EnergyStorageCoFH implements IEnergyStorage, IResourceStorage, INBT
         return this;
     }
 
+    /**
+     * Sets a callback which is run whenever energy is actually received (not simulated).
+     */
+    public EnergyStorageCoFH setReceiveCallback(Runnable receiveCallback) {
+
+        this.receiveCallback = receiveCallback;
+        return this;
+    }
+
     public void setEnergyStored(int amount) {
 
         energy = amount;
@@ -98,6 +109,7 @@ public class EnergyStorageCoFH implements IEnergyStorage, IResourceStorage, INBT
         int energyReceived = Math.min(capacity - energy, maxReceive);
         if (!simulate) {
             energy += energyReceived;
+            onReceive(energyReceived);
         }
         return energyReceived;
     }
@@ -111,6 +123,13 @@ public class EnergyStorageCoFH implements IEnergyStorage, IResourceStorage, INBT
         return energyExtracted;
     }
 
+    protected void onReceive(int energyReceived) {
+
+        if (energyReceived > 0 && receiveCallback != null) {
+            receiveCallback.run();
+        }
+    }
+
     // region NBT
     public EnergyStorageCoFH read(CompoundNBT nbt) {
 
@@ -150,6 +169,7 @@ public class EnergyStorageCoFH implements IEnergyStorage, IResourceStorage, INBT
         int energyReceived = Math.min(capacity - energy, Math.min(this.maxReceive, maxReceive));
         if (!simulate) {
             energy += energyReceived;
+            onReceive(energyReceived);
         }
         return energyReceived;
     }
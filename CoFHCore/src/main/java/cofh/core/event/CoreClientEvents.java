@@ -1,12 +1,14 @@
 package cofh.core.event;
 
 import cofh.core.init.CoreConfig;
+import cofh.core.network.FluidPalette;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -27,6 +29,12 @@ public class CoreClientEvents {
 
     }
 
+    @SubscribeEvent
+    public static void handleLoggedOutEvent(ClientPlayerNetworkEvent.LoggedOutEvent event) {
+
+        FluidPalette.resetClient();
+    }
+
     @SubscribeEvent
     public static void handleItemTooltipEvent(ItemTooltipEvent event) {
 
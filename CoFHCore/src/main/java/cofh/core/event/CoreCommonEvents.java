@@ -1,14 +1,20 @@
 package cofh.core.event;
 
 import cofh.core.init.CoreConfig;
+import cofh.core.network.FluidPalette;
+import cofh.core.network.TileUpdateQueue;
+import cofh.core.util.TileTickProfiler;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.item.ExperienceOrbEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.ItemFishedEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerXpEvent;
 import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.SaplingGrowTreeEvent;
@@ -16,6 +22,7 @@ import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
 
 import java.util.Map;
 
@@ -110,6 +117,37 @@ public class CoreCommonEvents {
         }
     }
 
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public static void handleServerTickStartEvent(TickEvent.ServerTickEvent event) {
+
+        if (event.phase == TickEvent.Phase.START) {
+            TileTickProfiler.onServerTickStart();
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void handleServerTickEndEvent(TickEvent.ServerTickEvent event) {
+
+        if (event.phase == TickEvent.Phase.END) {
+            TileTickProfiler.onServerTickEnd();
+            TileUpdateQueue.flush();
+        }
+    }
+
+    @SubscribeEvent
+    public static void handlePlayerLoggedInEvent(PlayerEvent.PlayerLoggedInEvent event) {
+
+        if (event.getPlayer() instanceof ServerPlayerEntity) {
+            FluidPalette.syncToPlayer((ServerPlayerEntity) event.getPlayer());
+        }
+    }
+
+    @SubscribeEvent
+    public static void handleServerStoppedEvent(FMLServerStoppedEvent event) {
+
+        FluidPalette.resetServer();
+    }
+
     // region HELPERS
     private static Map.Entry<EquipmentSlotType, ItemStack> getMostDamagedItem(PlayerEntity player) {
 
@@ -56,6 +56,9 @@ public class CoreConfig {
         permissionIgnite = SERVER_CONFIG
                 .comment("The required permission level for the '/cofh ignite' command.")
                 .defineInRange("Ignite Permission Level", SubCommandIgnite.permissionLevel, 0, 4);
+        permissionProfile = SERVER_CONFIG
+                .comment("The required permission level for the '/cofh profile' command.")
+                .defineInRange("Profile Permission Level", SubCommandProfile.permissionLevel, 0, 4);
         permissionRepair = SERVER_CONFIG
                 .comment("The required permission level for the '/cofh repair' command.")
                 .defineInRange("Repair Permission Level", SubCommandRepair.permissionLevel, 0, 4);
@@ -96,6 +99,17 @@ public class CoreConfig {
 
         SERVER_CONFIG.pop();
 
+        SERVER_CONFIG.push("Tiles");
+
+        serverEnableTileTimeOffset = SERVER_CONFIG
+                .comment("If TRUE, periodic checks in CoFH Tiles (transfers, process checks) are staggered per Tile, rather than all happening on the same game tick.")
+                .define("Stagger Tile Timing", enableTileTimeOffset);
+        serverGuiSyncInterval = SERVER_CONFIG
+                .comment("This option sets the minimum number of ticks between GUI updates for fast-changing values (progress, energy, fuel, fluids) in CoFH Tiles. Other values are sent as soon as they change.")
+                .defineInRange("GUI Sync Interval", guiSyncInterval, 1, 20);
+
+        SERVER_CONFIG.pop();
+
         serverSpec = SERVER_CONFIG.build();
 
         refreshServerConfig();
@@ -134,6 +148,7 @@ public class CoreConfig {
         SubCommandEnderChest.permissionLevel = permissionEnderChest.get();
         SubCommandHeal.permissionLevel = permissionHeal.get();
         SubCommandIgnite.permissionLevel = permissionIgnite.get();
+        SubCommandProfile.permissionLevel = permissionProfile.get();
         SubCommandRepair.permissionLevel = permissionRepair.get();
 
         improvedFeatherFalling = serverImprovedFeatherFalling.get();
@@ -144,6 +159,9 @@ public class CoreConfig {
 
         enableSaplingGrowthMod = serverEnableSaplingGrowthMod.get();
         amountSaplingGrowthMod = serverAmountSaplingGrowthMod.get();
+
+        enableTileTimeOffset = serverEnableTileTimeOffset.get();
+        guiSyncInterval = serverGuiSyncInterval.get();
     }
 
     private static void refreshClientConfig() {
@@ -160,6 +178,7 @@ public class CoreConfig {
     public static IntValue permissionEnderChest;
     public static IntValue permissionHeal;
     public static IntValue permissionIgnite;
+    public static IntValue permissionProfile;
     public static IntValue permissionRepair;
 
     public static boolean improvedFeatherFalling = true;
@@ -171,6 +190,9 @@ public class CoreConfig {
     public static boolean enableSaplingGrowthMod = false;
     public static int amountSaplingGrowthMod = 4;
 
+    public static boolean enableTileTimeOffset = true;
+    public static int guiSyncInterval = 4;
+
     public static boolean enableEnchantmentDescriptions = true;
     public static boolean enableItemDescriptions = true;
 
@@ -185,6 +207,9 @@ public class CoreConfig {
     private static BooleanValue serverEnableSaplingGrowthMod;
     private static IntValue serverAmountSaplingGrowthMod;
 
+    private static BooleanValue serverEnableTileTimeOffset;
+    private static IntValue serverGuiSyncInterval;
+
     private static BooleanValue clientEnableEnchantmentDescriptions;
     private static BooleanValue clientEnableItemDescriptions;
 
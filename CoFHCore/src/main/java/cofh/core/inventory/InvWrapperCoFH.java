@@ -58,8 +58,8 @@ public class InvWrapperCoFH implements IInventory {
         ItemStack stack = inSlot.split(count);
         if (inSlot.getCount() <= 0) {
             inventory.set(index, ItemStack.EMPTY);
-            inventory.onInventoryChange(index);
         }
+        inventory.onInventoryChange(index);
         return stack;
     }
 
@@ -93,6 +93,7 @@ public class InvWrapperCoFH implements IInventory {
     @Override
     public void markDirty() {
 
+        inventory.onInventoryChange();
     }
 
     @Override
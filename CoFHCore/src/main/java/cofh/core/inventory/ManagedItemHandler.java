@@ -1,6 +1,7 @@
 package cofh.core.inventory;
 
 import cofh.core.util.IInventoryCallback;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import javax.annotation.Nonnull;
@@ -31,9 +32,14 @@ public class ManagedItemHandler extends SimpleItemHandler {
             return stack;
         }
         ItemStack cur = slots.get(slot).getItemStack();
+        Item curItem = cur.getItem();
+        int curCount = cur.getCount();
         ItemStack ret = slots.get(slot).insertItem(slot, stack, simulate);
-        if (!simulate && cur.getItem() != slots.get(slot).getItemStack().getItem()) {
-            onInventoryChange(slot);
+        if (!simulate) {
+            ItemStack result = slots.get(slot).getItemStack();
+            if (curItem != result.getItem() || curCount != result.getCount()) {
+                onInventoryChange(slot);
+            }
         }
         return ret;
     }
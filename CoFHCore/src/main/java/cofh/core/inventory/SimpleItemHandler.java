@@ -58,6 +58,14 @@ public class SimpleItemHandler implements IItemHandler {
         tile.onInventoryChange(slot);
     }
 
+    public void onInventoryChange() {
+
+        if (tile == null) {
+            return;
+        }
+        tile.onInventoryChange();
+    }
+
     // region IItemHandler
     @Override
     public int getSlots() {
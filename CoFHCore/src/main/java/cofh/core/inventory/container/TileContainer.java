@@ -1,10 +1,12 @@
 package cofh.core.inventory.container;
 
+import cofh.core.network.GuiSync;
 import cofh.core.tileentity.TileCoFH;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.container.ContainerType;
 import net.minecraft.inventory.container.IContainerListener;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -14,12 +16,14 @@ import javax.annotation.Nullable;
 public class TileContainer extends ContainerCoFH {
 
     protected final TileCoFH baseTile;
+    protected final GuiSync.Tracker guiTracker;
 
     public TileContainer(@Nullable ContainerType<?> type, int windowId, World world, BlockPos pos, PlayerInventory inventory, PlayerEntity player) {
 
         super(type, windowId, inventory, player);
         TileEntity tile = world.getTileEntity(pos);
         baseTile = tile instanceof TileCoFH ? (TileCoFH) tile : null;
+        guiTracker = baseTile == null ? null : baseTile.getGuiSync().createTracker();
 
         if (baseTile != null) {
             baseTile.addPlayerUsing();
@@ -51,9 +55,22 @@ public class TileContainer extends ContainerCoFH {
         if (baseTile == null) {
             return;
         }
+        PacketBuffer changes = guiTracker.writeChanges();
+        if (changes == null) {
+            return;
+        }
         for (IContainerListener listener : this.listeners) {
-            baseTile.sendGuiNetworkData(this, listener);
+            baseTile.sendGuiNetworkData(this, listener, changes);
+        }
+    }
+
+    @Override
+    public void addListener(IContainerListener listener) {
+
+        if (guiTracker != null) {
+            guiTracker.reset();
         }
+        super.addListener(listener);
     }
 
     @Override
@@ -0,0 +1,159 @@
+package cofh.core.network;
+
+import cofh.core.network.packet.client.FluidPalettePacket;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fluids.FluidStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compact encoding for FluidStacks sent from the server to clients.
+ * <p>
+ * Each distinct fluid + tag is given an id the first time it is written during a server session. The definition is
+ * sent to every connected client at that point, and the whole palette is sent to players as they log in; after that a
+ * stack is written as a varint id and amount, rather than a registry name and NBT. Once the palette is full, new
+ * fluids are written in full.
+ * <p>
+ * Only use this for server to client data.
+ */
+public class FluidPalette {
+
+    public static final int PALETTE_LIMIT = 4096;
+    public static final int SYNC_BATCH_SIZE = 256;
+
+    private static final int EMPTY = 0;
+    private static final int INLINE = 1;
+    private static final int OFFSET = 2;
+
+    private static final Object2IntOpenHashMap<Key> SERVER_IDS = new Object2IntOpenHashMap<>();
+    private static final List<FluidStack> SERVER_DEFINITIONS = new ArrayList<>();
+
+    private static final Int2ObjectOpenHashMap<FluidStack> CLIENT_DEFINITIONS = new Int2ObjectOpenHashMap<>();
+
+    static {
+        SERVER_IDS.defaultReturnValue(-1);
+    }
+
+    private FluidPalette() {
+
+    }
+
+    public static void write(PacketBuffer buffer, FluidStack stack) {
+
+        if (stack.isEmpty()) {
+            buffer.writeVarInt(EMPTY);
+            return;
+        }
+        int id = getId(stack);
+        if (id < 0) {
+            buffer.writeVarInt(INLINE);
+            buffer.writeFluidStack(stack);
+            return;
+        }
+        buffer.writeVarInt(id + OFFSET);
+        buffer.writeVarInt(stack.getAmount());
+    }
+
+    public static FluidStack read(PacketBuffer buffer) {
+
+        int id = buffer.readVarInt();
+        if (id == EMPTY) {
+            return FluidStack.EMPTY;
+        }
+        if (id == INLINE) {
+            return buffer.readFluidStack();
+        }
+        int amount = buffer.readVarInt();
+        FluidStack definition = CLIENT_DEFINITIONS.get(id - OFFSET);
+        return definition == null ? FluidStack.EMPTY : new FluidStack(definition, amount);
+    }
+
+    // region SERVER
+    private static int getId(FluidStack stack) {
+
+        int id = SERVER_IDS.getInt(new Key(stack.getFluid(), stack.getTag()));
+        if (id >= 0 || SERVER_DEFINITIONS.size() >= PALETTE_LIMIT) {
+            return id;
+        }
+        FluidStack definition = new FluidStack(stack, 1);
+        id = SERVER_DEFINITIONS.size();
+        SERVER_DEFINITIONS.add(definition);
+        SERVER_IDS.put(new Key(definition.getFluid(), definition.getTag()), id);
+
+        new FluidPalettePacket(id, Collections.singletonList(definition)).sendToClients();
+        return id;
+    }
+
+    public static void syncToPlayer(ServerPlayerEntity player) {
+
+        for (int start = 0; start < SERVER_DEFINITIONS.size(); start += SYNC_BATCH_SIZE) {
+            int end = Math.min(start + SYNC_BATCH_SIZE, SERVER_DEFINITIONS.size());
+            new FluidPalettePacket(start, new ArrayList<>(SERVER_DEFINITIONS.subList(start, end))).sendToPlayer(player);
+        }
+    }
+
+    public static void resetServer() {
+
+        SERVER_IDS.clear();
+        SERVER_DEFINITIONS.clear();
+    }
+    // endregion
+
+    // region CLIENT
+    public static void define(int start, List<FluidStack> definitions) {
+
+        for (int i = 0; i < definitions.size(); ++i) {
+            CLIENT_DEFINITIONS.put(start + i, definitions.get(i));
+        }
+    }
+
+    public static void resetClient() {
+
+        CLIENT_DEFINITIONS.clear();
+    }
+    // endregion
+
+    // region KEY
+    private static class Key {
+
+        final Fluid fluid;
+        final CompoundNBT tag;
+
+        Key(Fluid fluid, @Nullable CompoundNBT tag) {
+
+            this.fluid = fluid;
+            this.tag = tag;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return fluid == other.fluid && Objects.equals(tag, other.tag);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return 31 * fluid.hashCode() + (tag == null ? 0 : tag.hashCode());
+        }
+
+    }
+    // endregion
+
+}
@@ -0,0 +1,289 @@
+package cofh.core.network;
+
+import cofh.core.init.CoreConfig;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fluids.FluidStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.*;
+
+/**
+ * Field-level GUI synchronization for a Tile. Values are registered once, in the same order on both sides; each open
+ * container then holds a {@link Tracker} which only writes the values that changed since its last send.
+ * <p>
+ * Counters (progress, energy, fuel, fluid amounts) may be rate-limited - a suppressed change stays pending and is sent
+ * once {@link CoreConfig#guiSyncInterval} ticks have passed since that value was last sent.
+ */
+public class GuiSync {
+
+    protected final List<Entry> entries = new ArrayList<>();
+
+    // region REGISTRATION
+    public GuiSync addInt(IntSupplier getter, IntConsumer setter) {
+
+        return addInt(getter, setter, false);
+    }
+
+    public GuiSync addInt(IntSupplier getter, IntConsumer setter, boolean rateLimited) {
+
+        entries.add(new IntEntry(getter, setter, rateLimited));
+        return this;
+    }
+
+    public GuiSync addBoolean(BooleanSupplier getter, Consumer<Boolean> setter) {
+
+        return addInt(() -> getter.getAsBoolean() ? 1 : 0, value -> setter.accept(value != 0), false);
+    }
+
+    public GuiSync addFloat(DoubleSupplier getter, DoubleConsumer setter) {
+
+        return addInt(() -> Float.floatToIntBits((float) getter.getAsDouble()), value -> setter.accept(Float.intBitsToFloat(value)), false);
+    }
+
+    public GuiSync addFluid(Supplier<FluidStack> getter, Consumer<FluidStack> setter) {
+
+        return addFluid(getter, setter, false);
+    }
+
+    public GuiSync addFluid(Supplier<FluidStack> getter, Consumer<FluidStack> setter, boolean rateLimited) {
+
+        entries.add(new ObjectEntry<>(getter, setter, FluidPalette::write, FluidPalette::read, FluidStack::isFluidStackIdentical, FluidStack::copy, rateLimited));
+        return this;
+    }
+
+    /**
+     * Generic value. The getter may return null; null is written as a flag and the writer/reader only see non-null values.
+     * Values are compared with {@link Objects#equals}, so the getter should return immutable or freshly created objects.
+     */
+    public <T> GuiSync addObject(Supplier<T> getter, Consumer<T> setter, BiConsumer<PacketBuffer, T> writer, Function<PacketBuffer, T> reader) {
+
+        entries.add(new ObjectEntry<>(getter, setter, writer, reader, Objects::equals, UnaryOperator.identity(), false));
+        return this;
+    }
+    // endregion
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    public Tracker createTracker() {
+
+        return new Tracker(this);
+    }
+
+    /**
+     * Writes every value, regardless of any tracker state.
+     */
+    public PacketBuffer writeAll(PacketBuffer buffer) {
+
+        buffer.writeVarInt(entries.size());
+        for (int i = 0; i < entries.size(); ++i) {
+            buffer.writeVarInt(i);
+            entries.get(i).write(buffer);
+        }
+        return buffer;
+    }
+
+    public void read(PacketBuffer buffer) {
+
+        int count = buffer.readVarInt();
+        for (int i = 0; i < count; ++i) {
+            entries.get(buffer.readVarInt()).read(buffer);
+        }
+    }
+
+    // region TRACKER
+    public static class Tracker {
+
+        protected final GuiSync sync;
+        protected final int[] lastInts;
+        protected final Object[] lastObjects;
+        protected final int[] lastSent;
+        protected final IntArrayList changed = new IntArrayList();
+        protected final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+
+        protected boolean initialized;
+        protected int tick;
+
+        protected Tracker(GuiSync sync) {
+
+            this.sync = sync;
+            this.lastInts = new int[sync.size()];
+            this.lastObjects = new Object[sync.size()];
+            this.lastSent = new int[sync.size()];
+        }
+
+        /**
+         * Forces the next call to {@link #writeChanges()} to send every value, e.g. when a listener is added.
+         */
+        public void reset() {
+
+            initialized = false;
+        }
+
+        /**
+         * Called once per container tick.
+         *
+         * @return A buffer holding the changed values, or null if nothing needs to be sent this tick. The buffer is owned
+         * by this tracker and is overwritten by the next call.
+         */
+        @Nullable
+        public PacketBuffer writeChanges() {
+
+            ++tick;
+            changed.clear();
+            for (int i = 0; i < sync.entries.size(); ++i) {
+                Entry entry = sync.entries.get(i);
+                if (initialized && (!entry.changed(this, i) || entry.rateLimited && tick - lastSent[i] < CoreConfig.guiSyncInterval)) {
+                    continue;
+                }
+                changed.add(i);
+            }
+            initialized = true;
+            if (changed.isEmpty()) {
+                return null;
+            }
+            buffer.clear();
+            buffer.writeVarInt(changed.size());
+            for (int i = 0; i < changed.size(); ++i) {
+                int index = changed.getInt(i);
+                buffer.writeVarInt(index);
+                sync.entries.get(index).writeAndStore(this, index, buffer);
+                lastSent[index] = tick;
+            }
+            return buffer;
+        }
+
+    }
+    // endregion
+
+    // region ENTRIES
+    protected abstract static class Entry {
+
+        protected final boolean rateLimited;
+
+        protected Entry(boolean rateLimited) {
+
+            this.rateLimited = rateLimited;
+        }
+
+        abstract boolean changed(Tracker tracker, int index);
+
+        abstract void writeAndStore(Tracker tracker, int index, PacketBuffer buffer);
+
+        abstract void write(PacketBuffer buffer);
+
+        abstract void read(PacketBuffer buffer);
+
+    }
+
+    protected static class IntEntry extends Entry {
+
+        protected final IntSupplier getter;
+        protected final IntConsumer setter;
+
+        protected IntEntry(IntSupplier getter, IntConsumer setter, boolean rateLimited) {
+
+            super(rateLimited);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        boolean changed(Tracker tracker, int index) {
+
+            return getter.getAsInt() != tracker.lastInts[index];
+        }
+
+        @Override
+        void writeAndStore(Tracker tracker, int index, PacketBuffer buffer) {
+
+            int value = getter.getAsInt();
+            tracker.lastInts[index] = value;
+            buffer.writeInt(value);
+        }
+
+        @Override
+        void write(PacketBuffer buffer) {
+
+            buffer.writeInt(getter.getAsInt());
+        }
+
+        @Override
+        void read(PacketBuffer buffer) {
+
+            setter.accept(buffer.readInt());
+        }
+
+    }
+
+    protected static class ObjectEntry<T> extends Entry {
+
+        protected final Supplier<T> getter;
+        protected final Consumer<T> setter;
+        protected final BiConsumer<PacketBuffer, T> writer;
+        protected final Function<PacketBuffer, T> reader;
+        protected final BiPredicate<T, T> equality;
+        protected final UnaryOperator<T> copier;
+
+        protected ObjectEntry(Supplier<T> getter, Consumer<T> setter, BiConsumer<PacketBuffer, T> writer, Function<PacketBuffer, T> reader, BiPredicate<T, T> equality, UnaryOperator<T> copier, boolean rateLimited) {
+
+            super(rateLimited);
+            this.getter = getter;
+            this.setter = setter;
+            this.writer = writer;
+            this.reader = reader;
+            this.equality = equality;
+            this.copier = copier;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean changed(Tracker tracker, int index) {
+
+            T value = getter.get();
+            T last = (T) tracker.lastObjects[index];
+            if (value == null || last == null) {
+                return value != last;
+            }
+            return !equality.test(value, last);
+        }
+
+        @Override
+        void writeAndStore(Tracker tracker, int index, PacketBuffer buffer) {
+
+            T value = getter.get();
+            tracker.lastObjects[index] = value == null ? null : copier.apply(value);
+            write(buffer, value);
+        }
+
+        @Override
+        void write(PacketBuffer buffer) {
+
+            write(buffer, getter.get());
+        }
+
+        @Override
+        void read(PacketBuffer buffer) {
+
+            setter.accept(buffer.readBoolean() ? reader.apply(buffer) : null);
+        }
+
+        protected void write(PacketBuffer buffer, T value) {
+
+            buffer.writeBoolean(value != null);
+            if (value != null) {
+                writer.accept(buffer, value);
+            }
+        }
+
+    }
+    // endregion
+
+}
@@ -0,0 +1,162 @@
+package cofh.core.network;
+
+import cofh.core.network.packet.client.TileUpdatesPacket;
+import cofh.core.tileentity.TileCoFH;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Collects tile state and redstone updates over a server tick and sends them at the end of the tick, bundled per player
+ * tracking the affected chunks. A bundle which would pass {@link TileUpdatesPacket#MAX_SIZE} is sent and a new one
+ * started.
+ * <p>
+ * Updates of the same kind for the same position are only sent once per tick; tile data is read at flush time, so the
+ * most recent state is what goes out.
+ */
+public class TileUpdateQueue {
+
+    public static final byte REDSTONE = 1;
+    public static final byte STATE = 2;
+
+    private static final Map<ServerWorld, Long2ObjectLinkedOpenHashMap<Pending>> QUEUES = new Reference2ObjectLinkedOpenHashMap<>();
+
+    private TileUpdateQueue() {
+
+    }
+
+    public static void enqueue(TileCoFH tile, byte kind) {
+
+        World world = tile.world();
+        if (!(world instanceof ServerWorld)) {
+            return;
+        }
+        Long2ObjectLinkedOpenHashMap<Pending> queue = QUEUES.get(world);
+        if (queue == null) {
+            queue = new Long2ObjectLinkedOpenHashMap<>();
+            QUEUES.put((ServerWorld) world, queue);
+        }
+        long pos = tile.pos().toLong();
+        Pending pending = queue.get(pos);
+        if (pending == null || pending.tile != tile) {
+            pending = new Pending(tile, pending == null ? 0 : pending.kinds);
+            queue.put(pos, pending);
+        }
+        pending.kinds |= kind;
+    }
+
+    /**
+     * Called at the end of every server tick.
+     */
+    public static void flush() {
+
+        if (QUEUES.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<ServerWorld, Long2ObjectLinkedOpenHashMap<Pending>> entry : QUEUES.entrySet()) {
+            flush(entry.getKey(), entry.getValue());
+        }
+        QUEUES.clear();
+    }
+
+    private static void flush(ServerWorld world, Long2ObjectLinkedOpenHashMap<Pending> queue) {
+
+        // Every update is serialized once; each player's packet copies the ranges for the chunks that player tracks.
+        PacketBuffer data = new PacketBuffer(Unpooled.buffer());
+        Long2ObjectOpenHashMap<List<ServerPlayerEntity>> trackers = new Long2ObjectOpenHashMap<>();
+        Map<ServerPlayerEntity, TileUpdatesPacket> packets = new Reference2ObjectLinkedOpenHashMap<>();
+
+        for (Pending pending : queue.values()) {
+            TileCoFH tile = pending.tile;
+            if (tile.isRemoved()) {
+                continue;
+            }
+            ChunkPos chunk = new ChunkPos(tile.pos());
+            List<ServerPlayerEntity> players = trackers.get(chunk.asLong());
+            if (players == null) {
+                players = world.getChunkProvider().chunkManager.getTrackingPlayers(chunk, false).collect(Collectors.toList());
+                trackers.put(chunk.asLong(), players);
+            }
+            if (players.isEmpty()) {
+                continue;
+            }
+            int start = data.writerIndex();
+            int count = pending.write(data);
+            int end = data.writerIndex();
+            for (ServerPlayerEntity player : players) {
+                TileUpdatesPacket packet = packets.get(player);
+                if (packet != null && !packet.fits(start, end)) {
+                    packet.sendToPlayer(player);
+                    packet = null;
+                }
+                if (packet == null) {
+                    packet = new TileUpdatesPacket(data);
+                    packets.put(player, packet);
+                }
+                packet.addRange(start, end, count);
+            }
+        }
+        for (Map.Entry<ServerPlayerEntity, TileUpdatesPacket> entry : packets.entrySet()) {
+            entry.getValue().sendToPlayer(entry.getKey());
+        }
+    }
+
+    // region PENDING
+    private static class Pending {
+
+        final TileCoFH tile;
+        int kinds;
+
+        Pending(TileCoFH tile, int kinds) {
+
+            this.tile = tile;
+            this.kinds = kinds;
+        }
+
+        /**
+         * Writes one entry per queued kind: position, kind, payload length and payload.
+         *
+         * @return The number of entries written.
+         */
+        int write(PacketBuffer buffer) {
+
+            int count = 0;
+            if ((kinds & REDSTONE) != 0) {
+                writeEntry(buffer, REDSTONE);
+                ++count;
+            }
+            if ((kinds & STATE) != 0) {
+                writeEntry(buffer, STATE);
+                ++count;
+            }
+            return count;
+        }
+
+        void writeEntry(PacketBuffer buffer, byte kind) {
+
+            buffer.writeBlockPos(tile.pos());
+            buffer.writeByte(kind);
+            int lengthIndex = buffer.writerIndex();
+            buffer.writeInt(0);
+            if (kind == REDSTONE) {
+                tile.getRedstonePacket(buffer);
+            } else {
+                tile.getStatePacket(buffer);
+            }
+            buffer.setInt(lengthIndex, buffer.writerIndex() - lengthIndex - 4);
+        }
+
+    }
+    // endregion
+
+}
@@ -63,6 +63,7 @@ public interface IPacket {
      */
     default net.minecraft.network.IPacket<?> toVanillaPacket(NetworkDirection direction, int index) {
 
+        // Not pooled - the vanilla payload packet holds on to this buffer and never releases it.
         PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
         buf.writeByte(getId());
         write(buf);
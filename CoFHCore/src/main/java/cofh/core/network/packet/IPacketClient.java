@@ -14,6 +14,8 @@ import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.LogicalSidedProvider;
 import net.minecraftforge.fml.network.NetworkDirection;
 
+import java.util.Iterator;
+
 /**
  * Packet sent FROM Servers TO Clients
  *
@@ -162,15 +164,22 @@ public interface IPacketClient extends IPacket {
 
     /**
      * Sends this packet to all clients watching the chunk.
+     * Recipients come from the chunk manager's tracking set, so no player list scan is done and players without the
+     * chunk loaded are skipped. The packet is only serialized if someone is watching.
      *
      * @param world The world.
      * @param pos   The pos.
      */
     default void sendToChunk(ServerWorld world, ChunkPos pos) {
 
+        Iterator<ServerPlayerEntity> players = world.getChunkProvider().chunkManager.getTrackingPlayers(pos, false).iterator();
+        if (!players.hasNext()) {
+            return;
+        }
         net.minecraft.network.IPacket<?> packet = toVanillaPacket(NetworkDirection.PLAY_TO_CLIENT);
-        world.getChunkProvider().chunkManager.getTrackingPlayers(pos, false)//
-                .forEach(e -> e.connection.sendPacket(packet));
+        while (players.hasNext()) {
+            players.next().connection.sendPacket(packet);
+        }
     }
     // endregion
 }
@@ -0,0 +1,59 @@
+package cofh.core.network.packet.client;
+
+import cofh.core.CoFHCore;
+import cofh.core.network.FluidPalette;
+import cofh.core.network.packet.IPacketClient;
+import cofh.core.network.packet.PacketBase;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fluids.FluidStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static cofh.core.util.constants.Constants.PACKET_FLUID_PALETTE;
+
+public class FluidPalettePacket extends PacketBase implements IPacketClient {
+
+    protected int start;
+    protected List<FluidStack> definitions;
+
+    public FluidPalettePacket() {
+
+        super(PACKET_FLUID_PALETTE, CoFHCore.PACKET_HANDLER);
+    }
+
+    public FluidPalettePacket(int start, List<FluidStack> definitions) {
+
+        this();
+        this.start = start;
+        this.definitions = definitions;
+    }
+
+    @Override
+    public void handleClient() {
+
+        FluidPalette.define(start, definitions);
+    }
+
+    @Override
+    public void write(PacketBuffer buf) {
+
+        buf.writeVarInt(start);
+        buf.writeVarInt(definitions.size());
+        for (FluidStack definition : definitions) {
+            buf.writeFluidStack(definition);
+        }
+    }
+
+    @Override
+    public void read(PacketBuffer buf) {
+
+        start = buf.readVarInt();
+        int size = buf.readVarInt();
+        definitions = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            definitions.add(buf.readFluidStack());
+        }
+    }
+
+}
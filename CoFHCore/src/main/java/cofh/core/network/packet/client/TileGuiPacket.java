@@ -6,7 +6,6 @@ import cofh.core.network.packet.PacketBase;
 import cofh.core.tileentity.TileCoFH;
 import cofh.core.util.ProxyUtils;
 import cofh.core.util.Utils;
-import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
@@ -19,6 +18,7 @@ public class TileGuiPacket extends PacketBase implements IPacketClient {
 
     protected BlockPos pos;
     protected PacketBuffer buffer;
+    protected TileCoFH tile;
 
     public TileGuiPacket() {
 
@@ -43,7 +43,11 @@ public class TileGuiPacket extends PacketBase implements IPacketClient {
     public void write(PacketBuffer buf) {
 
         buf.writeBlockPos(pos);
-        buf.writeBytes(buffer);
+        if (tile != null) {
+            tile.getGuiPacket(buf);
+        } else {
+            buf.writeBytes(buffer, buffer.readerIndex(), buffer.readableBytes());
+        }
     }
 
     @Override
@@ -60,7 +64,22 @@ public class TileGuiPacket extends PacketBase implements IPacketClient {
         }
         TileGuiPacket packet = new TileGuiPacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getGuiPacket(new PacketBuffer(Unpooled.buffer()));
+        packet.tile = tile;
+        packet.sendToPlayer(player);
+    }
+
+    /**
+     * Sends a prepared payload, such as a {@link cofh.core.network.GuiSync} delta. The payload is copied when the packet
+     * is built and is not consumed, so the same buffer may be sent to several players and reused afterwards.
+     */
+    public static void sendToClient(TileCoFH tile, PacketBuffer payload, ServerPlayerEntity player) {
+
+        if (Utils.isClientWorld(tile.world())) {
+            return;
+        }
+        TileGuiPacket packet = new TileGuiPacket();
+        packet.pos = tile.pos();
+        packet.buffer = payload;
         packet.sendToPlayer(player);
     }
 
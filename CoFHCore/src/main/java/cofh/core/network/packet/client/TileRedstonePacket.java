@@ -1,24 +1,24 @@
 package cofh.core.network.packet.client;
 
 import cofh.core.CoFHCore;
+import cofh.core.network.TileUpdateQueue;
 import cofh.core.network.packet.IPacketClient;
 import cofh.core.network.packet.PacketBase;
 import cofh.core.tileentity.TileCoFH;
 import cofh.core.util.ProxyUtils;
 import cofh.core.util.Utils;
-import io.netty.buffer.Unpooled;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
-import static cofh.core.util.constants.Constants.NETWORK_UPDATE_DISTANCE;
 import static cofh.core.util.constants.Constants.PACKET_REDSTONE;
 
 public class TileRedstonePacket extends PacketBase implements IPacketClient {
 
     protected BlockPos pos;
     protected PacketBuffer buffer;
+    protected TileCoFH tile;
 
     public TileRedstonePacket() {
 
@@ -43,7 +43,7 @@ public class TileRedstonePacket extends PacketBase implements IPacketClient {
     public void write(PacketBuffer buf) {
 
         buf.writeBlockPos(pos);
-        buf.writeBytes(buffer);
+        tile.getRedstonePacket(buf);
     }
 
     @Override
@@ -53,15 +53,29 @@ public class TileRedstonePacket extends PacketBase implements IPacketClient {
         pos = buffer.readBlockPos();
     }
 
+    /**
+     * Queues this Tile's update; updates are coalesced per tick and sent by {@link TileUpdateQueue}.
+     */
     public static void sendToClient(TileCoFH tile) {
 
+        if (Utils.isClientWorld(tile.world())) {
+            return;
+        }
+        TileUpdateQueue.enqueue(tile, TileUpdateQueue.REDSTONE);
+    }
+
+    /**
+     * Sends this Tile's update immediately, bypassing the per-tick queue.
+     */
+    public static void sendToClientNow(TileCoFH tile) {
+
         if (Utils.isClientWorld(tile.world())) {
             return;
         }
         TileRedstonePacket packet = new TileRedstonePacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getRedstonePacket(new PacketBuffer(Unpooled.buffer()));
-        packet.sendToAllAround(packet.pos, NETWORK_UPDATE_DISTANCE, tile.world().getDimensionKey());
+        packet.tile = tile;
+        packet.sendToChunk(tile);
     }
 
 }
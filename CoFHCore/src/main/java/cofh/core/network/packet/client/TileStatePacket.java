@@ -1,25 +1,25 @@
 package cofh.core.network.packet.client;
 
 import cofh.core.CoFHCore;
+import cofh.core.network.TileUpdateQueue;
 import cofh.core.network.packet.IPacketClient;
 import cofh.core.network.packet.PacketBase;
 import cofh.core.tileentity.TileCoFH;
 import cofh.core.util.ProxyUtils;
 import cofh.core.util.Utils;
-import io.netty.buffer.Unpooled;
 import net.minecraft.block.BlockState;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
-import static cofh.core.util.constants.Constants.NETWORK_UPDATE_DISTANCE;
 import static cofh.core.util.constants.Constants.PACKET_STATE;
 
 public class TileStatePacket extends PacketBase implements IPacketClient {
 
     protected BlockPos pos;
     protected PacketBuffer buffer;
+    protected TileCoFH tile;
 
     public TileStatePacket() {
 
@@ -46,7 +46,7 @@ public class TileStatePacket extends PacketBase implements IPacketClient {
     public void write(PacketBuffer buf) {
 
         buf.writeBlockPos(pos);
-        buf.writeBytes(buffer);
+        tile.getStatePacket(buf);
     }
 
     @Override
@@ -56,15 +56,29 @@ public class TileStatePacket extends PacketBase implements IPacketClient {
         pos = buffer.readBlockPos();
     }
 
+    /**
+     * Queues this Tile's update; updates are coalesced per tick and sent by {@link TileUpdateQueue}.
+     */
     public static void sendToClient(TileCoFH tile) {
 
+        if (Utils.isClientWorld(tile.world())) {
+            return;
+        }
+        TileUpdateQueue.enqueue(tile, TileUpdateQueue.STATE);
+    }
+
+    /**
+     * Sends this Tile's update immediately, bypassing the per-tick queue.
+     */
+    public static void sendToClientNow(TileCoFH tile) {
+
         if (Utils.isClientWorld(tile.world())) {
             return;
         }
         TileStatePacket packet = new TileStatePacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getStatePacket(new PacketBuffer(Unpooled.buffer()));
-        packet.sendToAllAround(packet.pos, NETWORK_UPDATE_DISTANCE, tile.world().getDimensionKey());
+        packet.tile = tile;
+        packet.sendToChunk(tile);
     }
 
 }
@@ -0,0 +1,106 @@
+package cofh.core.network.packet.client;
+
+import cofh.core.CoFHCore;
+import cofh.core.network.TileUpdateQueue;
+import cofh.core.network.packet.IPacketClient;
+import cofh.core.network.packet.PacketBase;
+import cofh.core.tileentity.TileCoFH;
+import cofh.core.util.ProxyUtils;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.block.BlockState;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import static cofh.core.util.constants.Constants.PACKET_TILE_UPDATES;
+
+/**
+ * Bundle of tile state and redstone updates, built by {@link TileUpdateQueue} at the end of a server tick.
+ */
+public class TileUpdatesPacket extends PacketBase implements IPacketClient {
+
+    /**
+     * Bundle size at which a new packet is started; vanilla rejects custom payloads over 1 MiB (1,048,576 bytes), and
+     * the rest is headroom for the packet id and entry count.
+     */
+    public static final int MAX_SIZE = (1 << 20) - 8192;
+
+    protected PacketBuffer buffer;
+
+    protected PacketBuffer data;
+    protected final IntArrayList ranges = new IntArrayList();
+    protected int count;
+    protected int size;
+
+    public TileUpdatesPacket() {
+
+        super(PACKET_TILE_UPDATES, CoFHCore.PACKET_HANDLER);
+    }
+
+    public TileUpdatesPacket(PacketBuffer data) {
+
+        this();
+        this.data = data;
+    }
+
+    public void addRange(int start, int end, int entries) {
+
+        ranges.add(start);
+        ranges.add(end);
+        count += entries;
+        size += end - start;
+    }
+
+    /**
+     * @return TRUE if the range can be added without the bundle passing {@link #MAX_SIZE}. An empty bundle always fits.
+     */
+    public boolean fits(int start, int end) {
+
+        return count == 0 || size + end - start <= MAX_SIZE;
+    }
+
+    @Override
+    public void handleClient() {
+
+        World world = ProxyUtils.getClientWorld();
+        if (world == null) {
+            CoFHCore.LOG.error("Client world is null! (Is this being called on the server?)");
+            return;
+        }
+        int entries = buffer.readVarInt();
+        for (int i = 0; i < entries; ++i) {
+            BlockPos pos = buffer.readBlockPos();
+            byte kind = buffer.readByte();
+            PacketBuffer payload = new PacketBuffer(buffer.readSlice(buffer.readInt()));
+
+            TileEntity tile = world.getTileEntity(pos);
+            if (!(tile instanceof TileCoFH)) {
+                continue;
+            }
+            if (kind == TileUpdateQueue.REDSTONE) {
+                ((TileCoFH) tile).handleRedstonePacket(payload);
+            } else if (kind == TileUpdateQueue.STATE) {
+                ((TileCoFH) tile).handleStatePacket(payload);
+                BlockState state = world.getBlockState(pos);
+                world.notifyBlockUpdate(pos, state, state, 3);
+            }
+        }
+    }
+
+    @Override
+    public void write(PacketBuffer buf) {
+
+        buf.writeVarInt(count);
+        for (int i = 0; i < ranges.size(); i += 2) {
+            buf.writeBytes(data, ranges.getInt(i), ranges.getInt(i + 1) - ranges.getInt(i));
+        }
+    }
+
+    @Override
+    public void read(PacketBuffer buf) {
+
+        buffer = buf;
+    }
+
+}
@@ -4,7 +4,6 @@ import cofh.core.CoFHCore;
 import cofh.core.inventory.container.ContainerCoFH;
 import cofh.core.network.packet.IPacketServer;
 import cofh.core.network.packet.PacketBase;
-import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 
@@ -13,6 +12,7 @@ import static cofh.core.util.constants.Constants.PACKET_CONTAINER;
 public class ContainerPacket extends PacketBase implements IPacketServer {
 
     protected PacketBuffer buffer;
+    protected ContainerCoFH container;
 
     public ContainerPacket() {
 
@@ -30,7 +30,7 @@ public class ContainerPacket extends PacketBase implements IPacketServer {
     @Override
     public void write(PacketBuffer buf) {
 
-        buf.writeBytes(buffer);
+        container.getContainerPacket(buf);
     }
 
     @Override
@@ -42,7 +42,7 @@ public class ContainerPacket extends PacketBase implements IPacketServer {
     public static void sendToServer(ContainerCoFH container) {
 
         ContainerPacket packet = new ContainerPacket();
-        packet.buffer = container.getContainerPacket(new PacketBuffer(Unpooled.buffer()));
+        packet.container = container;
         packet.sendToServer();
     }
 
@@ -4,7 +4,6 @@ import cofh.core.CoFHCore;
 import cofh.core.network.packet.IPacketServer;
 import cofh.core.network.packet.PacketBase;
 import cofh.core.tileentity.TileCoFH;
-import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
@@ -17,6 +16,7 @@ public class TileConfigPacket extends PacketBase implements IPacketServer {
 
     protected BlockPos pos;
     protected PacketBuffer buffer;
+    protected TileCoFH tile;
 
     public TileConfigPacket() {
 
@@ -40,7 +40,7 @@ public class TileConfigPacket extends PacketBase implements IPacketServer {
     public void write(PacketBuffer buf) {
 
         buf.writeBlockPos(pos);
-        buf.writeBytes(buffer);
+        tile.getConfigPacket(buf);
     }
 
     @Override
@@ -54,7 +54,7 @@ public class TileConfigPacket extends PacketBase implements IPacketServer {
 
         TileConfigPacket packet = new TileConfigPacket();
         packet.pos = tile.pos();
-        packet.buffer = tile.getConfigPacket(new PacketBuffer(Unpooled.buffer()));
+        packet.tile = tile;
         packet.sendToServer();
     }
 
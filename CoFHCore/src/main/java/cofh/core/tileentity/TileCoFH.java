@@ -1,10 +1,13 @@
 package cofh.core.tileentity;
 
+import cofh.core.init.CoreConfig;
+import cofh.core.network.GuiSync;
 import cofh.core.network.packet.client.TileGuiPacket;
 import cofh.core.util.IConveyableData;
 import cofh.core.util.Utils;
 import cofh.core.util.control.ISecurable;
 import cofh.core.util.helpers.FluidHelper;
+import cofh.core.util.helpers.MathHelper;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.LivingEntity;
@@ -34,6 +37,7 @@ import javax.annotation.Nullable;
 public class TileCoFH extends TileEntity implements ITileCallback, IConveyableData {
 
     protected int numPlayersUsing;
+    protected GuiSync guiSync;
 
     public TileCoFH(TileEntityType<?> tileEntityTypeIn) {
 
@@ -70,13 +74,30 @@ public class TileCoFH extends TileEntity implements ITileCallback, IConveyableDa
 
     }
 
-    public void sendGuiNetworkData(Container container, IContainerListener player) {
+    public void sendGuiNetworkData(Container container, IContainerListener player, PacketBuffer changes) {
 
         if (player instanceof ServerPlayerEntity && (!(player instanceof FakePlayer))) {
-            TileGuiPacket.sendToClient(this, (ServerPlayerEntity) player);
+            TileGuiPacket.sendToClient(this, changes, (ServerPlayerEntity) player);
         }
     }
 
+    public GuiSync getGuiSync() {
+
+        if (guiSync == null) {
+            guiSync = new GuiSync();
+            initGuiSync(guiSync);
+        }
+        return guiSync;
+    }
+
+    /**
+     * Registers the values shown in this Tile's GUI. Overrides must call super first, so that registration order
+     * matches on both sides.
+     */
+    protected void initGuiSync(GuiSync sync) {
+
+    }
+
     // region HELPERS
     public TileCoFH worldContext(BlockState state, IBlockReader world) {
 
@@ -92,6 +113,13 @@ public class TileCoFH extends TileEntity implements ITileCallback, IConveyableDa
 
     }
 
+    /**
+     * Called when an adjacent tile's contents change (comparator updates), without any block change.
+     */
+    public void neighborTileChanged(BlockPos fromPos) {
+
+    }
+
     public boolean onActivatedDelegate(World world, BlockPos pos, BlockState state, PlayerEntity player, Hand hand, BlockRayTraceResult result) {
 
         return getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY).map(handler -> FluidHelper.interactWithHandler(player.getHeldItem(hand), handler, player, hand)).orElse(false);
@@ -119,6 +147,15 @@ public class TileCoFH extends TileEntity implements ITileCallback, IConveyableDa
 
         return false;
     }
+
+    /**
+     * Whether the block should emit its ACTIVE light level even though its block state is not active.
+     * Used when the active state is tracked by the tile alone.
+     */
+    public boolean hasActiveLight() {
+
+        return false;
+    }
     // endregion
 
     // region GUI
@@ -159,24 +196,37 @@ public class TileCoFH extends TileEntity implements ITileCallback, IConveyableDa
     public static final int TIME_CONSTANT_QUARTER = TIME_CONSTANT / 4;
     public static final int TIME_CONSTANT_EIGHTH = TIME_CONSTANT / 8;
 
+    protected static final int TIME_OFFSET_MAX = 1 << 16;
+
+    /**
+     * Per-tile phase offset, so that periodic work is spread evenly across each interval instead of every tile
+     * running it on the same game tick.
+     */
+    protected final int timeOffset = MathHelper.RANDOM.nextInt(TIME_OFFSET_MAX);
+
+    protected final long offsetTime() {
+
+        return CoreConfig.enableTileTimeOffset ? world.getGameTime() + timeOffset : world.getGameTime();
+    }
+
     protected final boolean timeCheck() {
 
-        return world.getGameTime() % TIME_CONSTANT == 0;
+        return offsetTime() % TIME_CONSTANT == 0;
     }
 
     protected final boolean timeCheckHalf() {
 
-        return world.getGameTime() % TIME_CONSTANT_HALF == 0;
+        return offsetTime() % TIME_CONSTANT_HALF == 0;
     }
 
     protected final boolean timeCheckQuarter() {
 
-        return world.getGameTime() % TIME_CONSTANT_QUARTER == 0;
+        return offsetTime() % TIME_CONSTANT_QUARTER == 0;
     }
 
     protected final boolean timeCheckEighth() {
 
-        return world.getGameTime() % TIME_CONSTANT_EIGHTH == 0;
+        return offsetTime() % TIME_CONSTANT_EIGHTH == 0;
     }
     // endregion
 
@@ -212,7 +262,7 @@ public class TileCoFH extends TileEntity implements ITileCallback, IConveyableDa
 
     public PacketBuffer getGuiPacket(PacketBuffer buffer) {
 
-        return buffer;
+        return getGuiSync().writeAll(buffer);
     }
 
     public PacketBuffer getRedstonePacket(PacketBuffer buffer) {
@@ -235,6 +285,7 @@ public class TileCoFH extends TileEntity implements ITileCallback, IConveyableDa
 
     public void handleGuiPacket(PacketBuffer buffer) {
 
+        getGuiSync().read(buffer);
     }
 
     public void handleRedstonePacket(PacketBuffer buffer) {
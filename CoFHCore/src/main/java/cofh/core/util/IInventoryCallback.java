@@ -6,6 +6,13 @@ public interface IInventoryCallback {
 
     }
 
+    /**
+     * Called when stacks may have been modified in place and the slot is not known, e.g. from {@link net.minecraft.inventory.IInventory#markDirty()}.
+     */
+    default void onInventoryChange() {
+
+    }
+
     default void onTankChange(int tank) {
 
     }
@@ -0,0 +1,150 @@
+package cofh.core.util;
+
+import cofh.core.util.helpers.BlockHelper;
+import cofh.core.util.helpers.InventoryHelper;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.energy.CapabilityEnergy;
+import net.minecraftforge.energy.IEnergyStorage;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+import static cofh.core.util.constants.Constants.DIRECTIONS;
+
+/**
+ * Per-side cache of a capability exposed by the blocks adjacent to a tile.
+ * <p>
+ * An entry is dropped when the neighbor invalidates its capability, or when the owning tile reports a neighbor change.
+ * Chunk unloads invalidate nothing, so every hit also checks that the neighbor's chunk is still the one the entry was
+ * resolved in and that the neighbor tile has not been removed. Nothing is cached for a side whose chunk is not loaded.
+ */
+public class NeighborCapCache<T> {
+
+    protected final TileEntity tile;
+    protected final Capability<T> capability;
+    protected final LazyOptional<T>[] caps;
+    protected final TileEntity[] tiles = new TileEntity[6];
+    protected final Chunk[] chunks = new Chunk[6];
+
+    public static NeighborCapCache<IItemHandler> items(TileEntity tile) {
+
+        return new NeighborCapCache<IItemHandler>(tile, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY) {
+
+            @Override
+            protected LazyOptional<IItemHandler> lookup(TileEntity adjTile, Direction face) {
+
+                LazyOptional<IItemHandler> cap = super.lookup(adjTile, face);
+                if (!cap.isPresent() && adjTile instanceof IInventory) {
+                    IItemHandler handler = InventoryHelper.getItemHandlerCap(adjTile, face);
+                    return LazyOptional.of(() -> handler);
+                }
+                return cap;
+            }
+        };
+    }
+
+    public static NeighborCapCache<IFluidHandler> fluids(TileEntity tile) {
+
+        return new NeighborCapCache<>(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+    }
+
+    public static NeighborCapCache<IEnergyStorage> energy(TileEntity tile) {
+
+        return new NeighborCapCache<>(tile, CapabilityEnergy.ENERGY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public NeighborCapCache(TileEntity tile, Capability<T> capability) {
+
+        this.tile = tile;
+        this.capability = capability;
+        this.caps = new LazyOptional[6];
+    }
+
+    public LazyOptional<T> get(Direction side) {
+
+        int index = side.ordinal();
+        LazyOptional<T> cap = caps[index];
+        Chunk chunk = getAdjacentChunk(side);
+        if (cap != null && (chunks[index] != chunk || tiles[index] != null && tiles[index].isRemoved())) {
+            invalidate(side);
+            cap = null;
+        }
+        if (cap == null) {
+            if (chunk == null) {
+                return LazyOptional.empty();
+            }
+            TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
+            cap = adjTile == null ? LazyOptional.empty() : lookup(adjTile, side.getOpposite());
+            caps[index] = cap;
+            tiles[index] = adjTile;
+            chunks[index] = chunk;
+            if (cap.isPresent()) {
+                // Only clear the entry if it has not been replaced in the meantime.
+                cap.addListener(invalidated -> {
+                    if (caps[index] == invalidated) {
+                        caps[index] = null;
+                    }
+                });
+            }
+        }
+        return cap;
+    }
+
+    protected LazyOptional<T> lookup(TileEntity adjTile, Direction face) {
+
+        return adjTile.getCapability(capability, face);
+    }
+
+    public void invalidate(Direction side) {
+
+        int index = side.ordinal();
+        caps[index] = null;
+        tiles[index] = null;
+        chunks[index] = null;
+    }
+
+    public void invalidate(BlockPos fromPos) {
+
+        BlockPos pos = tile.getPos();
+        for (Direction side : DIRECTIONS) {
+            if (pos.offset(side).equals(fromPos)) {
+                invalidate(side);
+                return;
+            }
+        }
+    }
+
+    public void invalidate() {
+
+        Arrays.fill(caps, null);
+        Arrays.fill(tiles, null);
+        Arrays.fill(chunks, null);
+    }
+
+    /**
+     * @return The loaded chunk holding the neighbor on the given side, or null if it is not loaded.
+     */
+    @Nullable
+    protected Chunk getAdjacentChunk(Direction side) {
+
+        World world = tile.getWorld();
+        if (world == null) {
+            return null;
+        }
+        BlockPos pos = tile.getPos();
+        return world.getChunkProvider().getChunkNow((pos.getX() + side.getXOffset()) >> 4, (pos.getZ() + side.getZOffset()) >> 4);
+    }
+
+}
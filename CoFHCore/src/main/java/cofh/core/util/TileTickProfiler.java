@@ -0,0 +1,223 @@
+package cofh.core.util;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.command.CommandSource;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TranslationTextComponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records wall-clock tick time per tile class and per tile over a fixed number of server ticks.
+ * <p>
+ * Tile tickers should check {@link #isRunning()} before taking any timestamps; when no profile is running, that check
+ * is the only overhead. Per-class tick times go into fixed-size log histograms, so memory does not grow with the length
+ * of the profile and the reported p99 is accurate to within one bucket (~12%).
+ */
+public class TileTickProfiler {
+
+    private static final int REPORT_ENTRIES = 5;
+
+    private static boolean running;
+    private static int ticksRemaining;
+    private static int ticksRecorded;
+    private static CommandSource listener;
+
+    private static long serverTickStart;
+    private static long serverTickTime;
+
+    private static final Map<Class<?>, Histogram> CLASS_TIMES = new Object2ObjectOpenHashMap<>();
+    private static final Reference2LongOpenHashMap<TileEntity> TILE_TIME = new Reference2LongOpenHashMap<>();
+    private static final Reference2LongOpenHashMap<TileEntity> TILE_COUNT = new Reference2LongOpenHashMap<>();
+
+    private TileTickProfiler() {
+
+    }
+
+    public static boolean isRunning() {
+
+        return running;
+    }
+
+    public static boolean start(CommandSource source, int ticks) {
+
+        if (running) {
+            return false;
+        }
+        clear();
+        listener = source;
+        ticksRemaining = ticks;
+        running = true;
+        return true;
+    }
+
+    public static void record(TileEntity tile, long nanos) {
+
+        CLASS_TIMES.computeIfAbsent(tile.getClass(), c -> new Histogram()).add(nanos);
+        TILE_TIME.addTo(tile, nanos);
+        TILE_COUNT.addTo(tile, 1);
+    }
+
+    // region SERVER TICK
+    public static void onServerTickStart() {
+
+        if (running) {
+            serverTickStart = System.nanoTime();
+        }
+    }
+
+    public static void onServerTickEnd() {
+
+        if (!running || serverTickStart == 0) {
+            return;
+        }
+        serverTickTime += System.nanoTime() - serverTickStart;
+        ++ticksRecorded;
+        if (--ticksRemaining <= 0) {
+            running = false;
+            report();
+            clear();
+        }
+    }
+    // endregion
+
+    // region HELPERS
+    private static void clear() {
+
+        ticksRecorded = 0;
+        serverTickStart = 0;
+        serverTickTime = 0;
+        listener = null;
+        CLASS_TIMES.clear();
+        TILE_TIME.clear();
+        TILE_COUNT.clear();
+    }
+
+    private static void report() {
+
+        if (listener == null) {
+            return;
+        }
+        if (CLASS_TIMES.isEmpty()) {
+            listener.sendFeedback(new TranslationTextComponent("commands.cofh.profile.empty", ticksRecorded), false);
+            return;
+        }
+        long tileTime = 0;
+        for (long time : TILE_TIME.values()) {
+            tileTime += time;
+        }
+        listener.sendFeedback(new TranslationTextComponent("commands.cofh.profile.header", ticksRecorded, formatMicros(tileTime / ticksRecorded), formatPercent(tileTime, serverTickTime)), false);
+
+        // Types, by total time.
+        List<Map.Entry<Class<?>, Histogram>> types = new ArrayList<>(CLASS_TIMES.entrySet());
+        long[] typeTotals = new long[types.size()];
+        for (int i = 0; i < types.size(); ++i) {
+            typeTotals[i] = types.get(i).getValue().total;
+        }
+        Integer[] typeOrder = sortedIndices(typeTotals);
+        for (int i = 0; i < Math.min(REPORT_ENTRIES, typeOrder.length); ++i) {
+            int index = typeOrder[i];
+            Histogram histogram = types.get(index).getValue();
+            listener.sendFeedback(new TranslationTextComponent("commands.cofh.profile.type", types.get(index).getKey().getSimpleName(), histogram.count, formatMicros(typeTotals[index] / histogram.count), formatMicros(histogram.quantile(0.99D)), formatPercent(typeTotals[index], serverTickTime)), false);
+        }
+
+        // Individual tiles, by total time.
+        List<TileEntity> tiles = new ArrayList<>(TILE_TIME.keySet());
+        long[] tileTotals = new long[tiles.size()];
+        for (int i = 0; i < tiles.size(); ++i) {
+            tileTotals[i] = TILE_TIME.getLong(tiles.get(i));
+        }
+        Integer[] tileOrder = sortedIndices(tileTotals);
+        for (int i = 0; i < Math.min(REPORT_ENTRIES, tileOrder.length); ++i) {
+            TileEntity tile = tiles.get(tileOrder[i]);
+            BlockPos pos = tile.getPos();
+            String dimension = tile.getWorld() == null ? "?" : tile.getWorld().getDimensionKey().getLocation().toString();
+            listener.sendFeedback(new TranslationTextComponent("commands.cofh.profile.tile", tile.getClass().getSimpleName(), pos.getX(), pos.getY(), pos.getZ(), dimension, formatMicros(tileTotals[tileOrder[i]] / TILE_COUNT.getLong(tile)), formatPercent(tileTotals[tileOrder[i]], serverTickTime)), false);
+        }
+    }
+
+    private static Integer[] sortedIndices(long[] values) {
+
+        Integer[] indices = new Integer[values.length];
+        for (int i = 0; i < indices.length; ++i) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, (a, b) -> Long.compare(values[b], values[a]));
+        return indices;
+    }
+
+    private static String formatMicros(long nanos) {
+
+        return String.format("%.1f", nanos / 1000.0D);
+    }
+
+    private static String formatPercent(long part, long total) {
+
+        return String.format("%.2f", total <= 0 ? 0.0D : 100.0D * part / total);
+    }
+    // endregion
+
+    // region HISTOGRAM
+    /**
+     * Values below 8 get exact buckets; above that, each power of two is split into 8 linear buckets.
+     */
+    private static class Histogram {
+
+        private static final int SUB_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+        private final long[] buckets = new long[(64 - SUB_BITS) * SUB_BUCKETS];
+        private long count;
+        private long total;
+
+        void add(long nanos) {
+
+            nanos = Math.max(nanos, 0);
+            ++buckets[index(nanos)];
+            ++count;
+            total += nanos;
+        }
+
+        /**
+         * @return The upper bound of the bucket holding the given quantile.
+         */
+        long quantile(double q) {
+
+            long rank = Math.min(count - 1, (long) (count * q));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; ++i) {
+                seen += buckets[i];
+                if (seen > rank) {
+                    return upperBound(i);
+                }
+            }
+            return 0;
+        }
+
+        static int index(long value) {
+
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+            return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+        }
+
+        static long upperBound(int index) {
+
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int shift = index / SUB_BUCKETS - 1;
+            long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+            return lower + (1L << shift) - 1;
+        }
+
+    }
+    // endregion
+}
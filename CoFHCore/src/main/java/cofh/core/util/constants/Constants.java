@@ -114,6 +114,7 @@ public class Constants {
     public static final String CMD_PLAYER = "player";
     public static final String CMD_PLAYERS = "players";
     public static final String CMD_TARGETS = "targets";
+    public static final String CMD_TICKS = "ticks";
     // endregion
 
     // region PACKET
@@ -121,6 +122,8 @@ public class Constants {
     public static final int PACKET_GUI = 2;
     public static final int PACKET_REDSTONE = 3;
     public static final int PACKET_STATE = 4;
+    public static final int PACKET_TILE_UPDATES = 5;
+    public static final int PACKET_FLUID_PALETTE = 6;
 
     public static final int PACKET_CHAT = 16;
 
@@ -43,6 +43,7 @@ public class NBTTags {
     public static final String TAG_PROCESS = "Proc";
     public static final String TAG_PROCESS_MAX = "ProcMax";
     public static final String TAG_PROCESS_TICK = "ProcTick";
+    public static final String TAG_PROCESS_BATCH = "ProcBatch";
     public static final String TAG_RENDER_FLUID = "RenderFluid";
     public static final String TAG_SECURE = "Secure";
     public static final String TAG_SETTINGS = "Settings";
@@ -113,6 +114,7 @@ public class NBTTags {
     public static final String TAG_AUGMENT_MACHINE_ENERGY = "MchEn";
     public static final String TAG_AUGMENT_MACHINE_CATALYST = "MchCat";
     public static final String TAG_AUGMENT_MACHINE_XP = "MchXp";
+    public static final String TAG_AUGMENT_MACHINE_PARALLEL = "MchPar";
 
     // Compatibility
     public static final String TAG_DEMAGNETIZE_COMPAT = "AllowMachineRemoteMovement";
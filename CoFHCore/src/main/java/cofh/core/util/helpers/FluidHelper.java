@@ -110,14 +110,28 @@ public class FluidHelper {
     // region BLOCK TRANSFER
     public static boolean extractFromAdjacent(TileEntity tile, FluidStorageCoFH tank, int amount, Direction side) {
 
+        return extractFromHandler(getFluidHandlerCap(BlockHelper.getAdjacentTileEntity(tile, side), side.getOpposite()), tank, amount);
+    }
+
+    public static boolean extractFromAdjacent(TileEntity tile, FluidStorageCoFH tank, FluidStack resource, Direction side) {
+
+        return extractFromHandler(getFluidHandlerCap(BlockHelper.getAdjacentTileEntity(tile, side), side.getOpposite()), tank, resource);
+    }
+
+    public static boolean insertIntoAdjacent(TileEntity tile, FluidStorageCoFH tank, int amount, Direction side) {
+
+        if (tank.isEmpty()) {
+            return false;
+        }
+        return insertIntoHandler(getFluidHandlerCap(BlockHelper.getAdjacentTileEntity(tile, side), side.getOpposite()), tank, amount);
+    }
+
+    public static boolean extractFromHandler(IFluidHandler handler, FluidStorageCoFH tank, int amount) {
+
         amount = Math.min(amount, tank.getSpace());
         if (!tank.getFluidStack().isEmpty()) {
-            return extractFromAdjacent(tile, tank, new FluidStack(tank.getFluidStack(), amount), side);
+            return extractFromHandler(handler, tank, new FluidStack(tank.getFluidStack(), amount));
         }
-        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
-        Direction opposite = side.getOpposite();
-
-        IFluidHandler handler = getFluidHandlerCap(adjTile, opposite);
         if (handler == EmptyFluidHandler.INSTANCE) {
             return false;
         }
@@ -130,12 +144,8 @@ public class FluidHelper {
         return false;
     }
 
-    public static boolean extractFromAdjacent(TileEntity tile, FluidStorageCoFH tank, FluidStack resource, Direction side) {
-
-        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
-        Direction opposite = side.getOpposite();
+    public static boolean extractFromHandler(IFluidHandler handler, FluidStorageCoFH tank, FluidStack resource) {
 
-        IFluidHandler handler = getFluidHandlerCap(adjTile, opposite);
         if (handler == EmptyFluidHandler.INSTANCE) {
             return false;
         }
@@ -148,20 +158,12 @@ public class FluidHelper {
         return false;
     }
 
-    public static boolean insertIntoAdjacent(TileEntity tile, FluidStorageCoFH tank, int amount, Direction side) {
+    public static boolean insertIntoHandler(IFluidHandler handler, FluidStorageCoFH tank, int amount) {
 
-        if (tank.isEmpty()) {
+        if (tank.isEmpty() || handler == EmptyFluidHandler.INSTANCE) {
             return false;
         }
         amount = Math.min(amount, tank.getAmount());
-
-        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
-        Direction opposite = side.getOpposite();
-
-        IFluidHandler handler = getFluidHandlerCap(adjTile, opposite);
-        if (handler == EmptyFluidHandler.INSTANCE) {
-            return false;
-        }
         int fillAmount = handler.fill(new FluidStack(tank.getFluidStack(), amount), EXECUTE);
         if (fillAmount > 0) {
             tank.drain(fillAmount, EXECUTE);
@@ -166,25 +166,29 @@ public class InventoryHelper {
         Direction opposite = side.getOpposite();
 
         if (hasItemHandlerCap(adjTile, opposite)) {
-            IItemHandler handler = getItemHandlerCap(adjTile, opposite);
-            if (handler == EmptyHandler.INSTANCE) {
-                return false;
+            return extractFromHandler(getItemHandlerCap(adjTile, opposite), slot, amount);
+        }
+        return false;
+    }
+
+    public static boolean extractFromHandler(IItemHandler handler, ItemStorageCoFH slot, int amount) {
+
+        if (handler == EmptyHandler.INSTANCE) {
+            return false;
+        }
+        int initialAmount = amount;
+        for (int i = 0; i < handler.getSlots() && amount > 0; ++i) {
+            ItemStack query = handler.extractItem(i, amount, true);
+            if (query.isEmpty()) {      // Skip empty slots.
+                continue;
             }
-            int initialAmount = amount;
-            for (int i = 0; i < handler.getSlots() && amount > 0; ++i) {
-                ItemStack query = handler.extractItem(i, amount, true);
-                if (query.isEmpty()) {      // Skip empty slots.
-                    continue;
-                }
-                ItemStack ret = slot.insertItem(0, query, true);
-                if (ret.getCount() != query.getCount()) {       // If the slot accepted items.
-                    slot.insertItem(0, handler.extractItem(i, amount, false), false);
-                    amount -= query.getCount() - ret.getCount();
-                }
+            ItemStack ret = slot.insertItem(0, query, true);
+            if (ret.getCount() != query.getCount()) {       // If the slot accepted items.
+                slot.insertItem(0, handler.extractItem(i, amount, false), false);
+                amount -= query.getCount() - ret.getCount();
             }
-            return amount != initialAmount;
         }
-        return false;
+        return amount != initialAmount;
     }
 
     public static boolean insertIntoAdjacent(TileEntity tile, ItemStorageCoFH slot, int amount, Direction side) {
@@ -192,22 +196,30 @@ public class InventoryHelper {
         if (slot.isEmpty()) {
             return false;
         }
-        ItemStack initialStack = slot.getItemStack().copy();
-        initialStack.setCount(Math.min(amount, initialStack.getCount()));
         TileEntity adjTile = BlockHelper.getAdjacentTileEntity(tile, side);
         Direction opposite = side.getOpposite();
 
         if (hasItemHandlerCap(adjTile, opposite)) {
-            // OPTIMIZATION: This is used instead of addToInventory because prechecks have already happened.
-            ItemStack inserted = insertStackIntoInventory(getItemHandlerCap(adjTile, opposite), initialStack, false);
-            if (inserted.getCount() >= initialStack.getCount()) {
-                return false;
-            }
-            slot.modify(inserted.getCount() - initialStack.getCount());
-            return true;
+            return insertIntoHandler(getItemHandlerCap(adjTile, opposite), slot, amount);
         }
         return false;
     }
+
+    public static boolean insertIntoHandler(IItemHandler handler, ItemStorageCoFH slot, int amount) {
+
+        if (slot.isEmpty() || handler == EmptyHandler.INSTANCE) {
+            return false;
+        }
+        ItemStack initialStack = slot.getItemStack().copy();
+        initialStack.setCount(Math.min(amount, initialStack.getCount()));
+        // OPTIMIZATION: This is used instead of addToInventory because prechecks have already happened.
+        ItemStack inserted = insertStackIntoInventory(handler, initialStack, false);
+        if (inserted.getCount() >= initialStack.getCount()) {
+            return false;
+        }
+        slot.modify(inserted.getCount() - initialStack.getCount());
+        return true;
+    }
     // endregion
 
     // region HELPERS
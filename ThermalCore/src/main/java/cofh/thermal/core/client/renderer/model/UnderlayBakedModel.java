@@ -5,6 +5,7 @@ import cofh.core.util.helpers.FluidHelper;
 import cofh.core.util.helpers.RenderHelper;
 import cofh.thermal.core.tileentity.ThermalTileBase;
 import net.minecraft.block.BlockState;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.model.BakedQuad;
 import net.minecraft.client.renderer.model.IBakedModel;
 import net.minecraft.util.Direction;
@@ -18,6 +19,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
 
+import static cofh.core.util.constants.Constants.ACTIVE;
 import static cofh.core.util.constants.Constants.BUCKET_VOLUME;
 
 public class UnderlayBakedModel extends BakedModelWrapper<IBakedModel> implements IDynamicBakedModel {
@@ -40,7 +42,16 @@ public class UnderlayBakedModel extends BakedModelWrapper<IBakedModel> implement
     @Nonnull
     public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, @Nonnull Random rand, @Nonnull IModelData extraData) {
 
-        LinkedList<BakedQuad> quads = new LinkedList<>(originalModel.getQuads(state, side, rand, extraData));
+        IBakedModel baseModel = originalModel;
+        // VISUAL ACTIVE STATE
+        if (state != null && state.hasProperty(ACTIVE) && !state.get(ACTIVE) && Boolean.TRUE.equals(extraData.getData(ThermalTileBase.VISUAL_ACTIVE))) {
+            state = state.with(ACTIVE, true);
+            IBakedModel activeModel = Minecraft.getInstance().getBlockRendererDispatcher().getModelForState(state);
+            if (activeModel instanceof UnderlayBakedModel) {
+                baseModel = ((UnderlayBakedModel) activeModel).originalModel;
+            }
+        }
+        LinkedList<BakedQuad> quads = new LinkedList<>(baseModel.getQuads(state, side, rand, extraData));
         if (side == null || quads.isEmpty()) {
             return quads;
         }
@@ -37,6 +37,7 @@ public class ThermalAugmentRules {
                 TAG_AUGMENT_MACHINE_POWER,
                 TAG_AUGMENT_MACHINE_PRIMARY,
                 TAG_AUGMENT_MACHINE_SECONDARY,
+                TAG_AUGMENT_MACHINE_PARALLEL,
 
                 TAG_AUGMENT_POTION_AMPLIFIER,
                 TAG_AUGMENT_POTION_DURATION
@@ -78,6 +79,8 @@ public class ThermalAugmentRules {
                 TAG_AUGMENT_AREA_RADIUS,
                 TAG_AUGMENT_AREA_REACH,
 
+                TAG_AUGMENT_MACHINE_PARALLEL,
+
                 TAG_AUGMENT_POTION_AMPLIFIER
         ));
         // Type Exclusive
@@ -1,5 +1,6 @@
 package cofh.thermal.core.common;
 
+import cofh.core.block.TileBlockCoFH;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.common.ForgeConfigSpec.BooleanValue;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -71,6 +72,20 @@ public class ThermalConfig {
 
         SERVER_CONFIG.pop();
 
+        SERVER_CONFIG.push("Performance");
+
+        batchTileTicks = SERVER_CONFIG
+                .comment("If TRUE, ticking Thermal Blocks are ticked together in batches by type, rather than individually by the world.")
+                .define("Batched Tile Ticking", true);
+        visualActiveState = SERVER_CONFIG
+                .comment("If TRUE, Thermal Machines do not update their Block State when turning on or off; the active appearance is only sent to clients for rendering.")
+                .define("Visual-Only Active State", false);
+        visualActiveLight = SERVER_CONFIG
+                .comment("If TRUE, Thermal Machines using the Visual-Only Active State still emit light while active. This light is client-side only.")
+                .define("Visual-Only Active Light", true);
+
+        SERVER_CONFIG.pop();
+
         SERVER_CONFIG.push("Features");
 
         flagVanillaBlocks = SERVER_CONFIG
@@ -155,6 +170,8 @@ public class ThermalConfig {
         setFlag(FLAG_MOB_BLITZ, flagMobBlitz.get());
         setFlag(FLAG_MOB_BLIZZ, flagMobBlizz.get());
 
+        TileBlockCoFH.enableTileActiveLight = visualActiveState.get() && visualActiveLight.get();
+
         refreshWorldConfig();
     }
 
@@ -200,6 +217,10 @@ public class ThermalConfig {
     public static BooleanValue keepSideConfig;
     public static BooleanValue keepTransferControl;
 
+    public static BooleanValue batchTileTicks;
+    public static BooleanValue visualActiveState;
+    public static BooleanValue visualActiveLight;
+
     private static BooleanValue flagVanillaBlocks;
     private static BooleanValue flagRockwool;
 
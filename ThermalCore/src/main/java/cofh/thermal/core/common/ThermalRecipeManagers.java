@@ -3,9 +3,13 @@ package cofh.thermal.core.common;
 import cofh.thermal.core.ThermalCore;
 import cofh.thermal.core.util.managers.IManager;
 import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Util;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class ThermalRecipeManagers {
 
@@ -14,6 +18,9 @@ public class ThermalRecipeManagers {
     private RecipeManager serverRecipeManager;
     private final List<IManager> managers = new ArrayList<>();
 
+    private int generation;
+    private volatile int pendingBatch;
+
     public static ThermalRecipeManagers instance() {
 
         return INSTANCE;
@@ -24,6 +31,14 @@ public class ThermalRecipeManagers {
         this.serverRecipeManager = recipeManager;
     }
 
+    /**
+     * Incremented every time the managers are refreshed, so that anything holding onto a recipe can tell it is stale.
+     */
+    public int getGeneration() {
+
+        return generation;
+    }
+
     public static void registerManager(IManager manager) {
 
         if (!instance().managers.contains(manager)) {
@@ -43,9 +58,18 @@ public class ThermalRecipeManagers {
         if (this.serverRecipeManager == null) {
             return;
         }
-        for (IManager sub : managers) {
-            sub.refresh(this.serverRecipeManager);
+        int batch = ++pendingBatch;
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null || !server.isServerRunning()) {
+            publish(prepare(this.serverRecipeManager).join());
+            return;
         }
+        // Build in the background; the old recipes stay live until the server thread swaps the new ones in.
+        prepare(this.serverRecipeManager).thenAccept(tasks -> server.execute(() -> {
+            if (batch == pendingBatch) {
+                publish(tasks);
+            }
+        }));
     }
 
     public void refreshClient(RecipeManager recipeManager) {
@@ -57,9 +81,40 @@ public class ThermalRecipeManagers {
             ThermalCore.LOG.error("The client's Recipe Manager is null! This is REALLY BAD and will prevent recipes from registering. Check your modpack and configs.");
             return;
         }
+        publish(prepare(recipeManager).join());
+    }
+
+    // region HELPERS
+    /**
+     * Builds every manager concurrently on the background executor. Managers never see each other's partial state.
+     */
+    private CompletableFuture<List<Runnable>> prepare(RecipeManager recipeManager) {
+
+        List<CompletableFuture<Runnable>> futures = new ArrayList<>(managers.size());
         for (IManager sub : managers) {
-            sub.refresh(recipeManager);
+            futures.add(CompletableFuture.supplyAsync(() -> sub.prepare(recipeManager), Util.getServerExecutor()).exceptionally(e -> {
+                ThermalCore.LOG.error("Failed to refresh recipe manager " + sub.getClass().getSimpleName() + "; keeping its previous recipes.", e);
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            List<Runnable> tasks = new ArrayList<>(futures.size());
+            for (CompletableFuture<Runnable> future : futures) {
+                Runnable task = future.join();
+                if (task != null) {
+                    tasks.add(task);
+                }
+            }
+            return tasks;
+        });
+    }
+
+    private void publish(List<Runnable> tasks) {
+
+        for (Runnable task : tasks) {
+            task.run();
         }
+        ++generation;
     }
     // endregion
 }
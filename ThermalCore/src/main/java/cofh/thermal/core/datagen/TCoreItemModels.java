@@ -164,6 +164,7 @@ public class TCoreItemModels extends ItemModelProviderCoFH {
         generated(reg.getSup("machine_output_augment"), AUGMENTS);
         generated(reg.getSup("machine_catalyst_augment"), AUGMENTS);
         generated(reg.getSup("machine_cycle_augment"), AUGMENTS);
+        generated(reg.getSup("machine_parallel_augment"), AUGMENTS);
 
         generated(reg.getSup("dynamo_output_augment"), AUGMENTS);
         generated(reg.getSup("dynamo_fuel_augment"), AUGMENTS);
@@ -513,6 +513,17 @@ public class TCoreRecipes extends RecipeProviderCoFH {
                 .addCriterion("has_redstone_servo", hasItem(redstoneServo))
                 .build(consumer, this.modid + ":" + folder + "/" + result.getRegistryName().getPath());
 
+        result = reg.get("machine_parallel_augment");
+        ShapedRecipeBuilder.shapedRecipe(result)
+                .key('G', CoFHTags.Items.GEARS_ELECTRUM)
+                .key('I', CoFHTags.Items.PLATES_INVAR)
+                .key('X', rfCoil)
+                .patternLine(" G ")
+                .patternLine("IXI")
+                .patternLine(" G ")
+                .addCriterion("has_rf_coil", hasItem(rfCoil))
+                .build(consumer, this.modid + ":" + folder + "/" + result.getRegistryName().getPath());
+
         result = reg.get("potion_amplifier_augment");
         ShapedRecipeBuilder.shapedRecipe(result)
                 .key('G', CoFHTags.Items.GEARS_SIGNALUM)
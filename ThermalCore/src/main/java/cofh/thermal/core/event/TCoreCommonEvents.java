@@ -1,13 +1,17 @@
 package cofh.thermal.core.event;
 
 import cofh.thermal.core.item.DivingArmorItem;
+import cofh.thermal.core.util.ThermalTickScheduler;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.tags.FluidTags;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.common.Mod;
 
 import static cofh.core.util.constants.Constants.ID_THERMAL;
@@ -41,4 +45,18 @@ public class TCoreCommonEvents {
         }
     }
 
+    @SubscribeEvent
+    public static void handleWorldTickEvent(TickEvent.WorldTickEvent event) {
+
+        if (event.phase == TickEvent.Phase.END && event.side == LogicalSide.SERVER) {
+            ThermalTickScheduler.tick(event.world);
+        }
+    }
+
+    @SubscribeEvent
+    public static void handleWorldUnloadEvent(WorldEvent.Unload event) {
+
+        ThermalTickScheduler.unload(event.getWorld());
+    }
+
 }
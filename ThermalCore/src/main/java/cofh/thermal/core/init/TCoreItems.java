@@ -361,6 +361,12 @@ public class TCoreItems {
                         .type(TAG_AUGMENT_TYPE_MACHINE)
                         .mod(TAG_AUGMENT_FEATURE_RECYCLE, 1.0F)
                         .build()).setShowInGroups(getFlag(FLAG_MACHINE_AUGMENTS)));
+
+        registerItem("machine_parallel_augment", () -> new AugmentItem(new Item.Properties().group(group),
+                AugmentDataHelper.builder()
+                        .type(TAG_AUGMENT_TYPE_MACHINE)
+                        .mod(TAG_AUGMENT_MACHINE_PARALLEL, 1.0F)
+                        .build()).setShowInGroups(getFlag(FLAG_MACHINE_AUGMENTS)));
     }
 
     private static void registerPotionAugments() {
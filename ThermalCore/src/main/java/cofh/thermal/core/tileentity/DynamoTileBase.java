@@ -1,10 +1,12 @@
 package cofh.thermal.core.tileentity;
 
 import cofh.core.energy.EnergyStorageCoFH;
+import cofh.core.network.GuiSync;
 import cofh.core.tileentity.TileCoFH;
+import cofh.core.util.NeighborCapCache;
 import cofh.core.util.StorageGroup;
-import cofh.core.util.helpers.BlockHelper;
 import cofh.core.util.helpers.MathHelper;
+import cofh.thermal.core.common.ThermalRecipeManagers;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
@@ -12,14 +14,13 @@ import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.server.SUpdateTileEntityPacket;
 import net.minecraft.tileentity.ITickableTileEntity;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockReader;
 import net.minecraftforge.client.model.ModelDataManager;
 import net.minecraftforge.common.util.LazyOptional;
-import net.minecraftforge.energy.CapabilityEnergy;
+import net.minecraftforge.energy.IEnergyStorage;
 
 import javax.annotation.Nullable;
 
@@ -32,6 +33,8 @@ public abstract class DynamoTileBase extends ThermalTileBase implements ITickabl
 
     protected Direction facing;
 
+    protected final NeighborCapCache<IEnergyStorage> adjEnergyCaps = NeighborCapCache.energy(this);
+
     protected int fuel;
     protected int fuelMax;
     protected int coolant;
@@ -40,6 +43,7 @@ public abstract class DynamoTileBase extends ThermalTileBase implements ITickabl
     protected int baseProcessTick = getBaseProcessTick();
     protected int processTick = baseProcessTick;
     protected int minProcessTick = processTick / 10;
+    protected int[] energyCurve;
 
     public DynamoTileBase(TileEntityType<?> tileEntityTypeIn) {
 
@@ -79,7 +83,7 @@ public abstract class DynamoTileBase extends ThermalTileBase implements ITickabl
 
         super.neighborChanged(blockIn, fromPos);
 
-        // TODO: Handle caching of neighbor caps.
+        adjEnergyCaps.invalidate(fromPos);
     }
 
     @Override
@@ -143,23 +147,83 @@ public abstract class DynamoTileBase extends ThermalTileBase implements ITickabl
         return energy;
     }
 
+    /**
+     * Energy generated this tick: processTick when empty, falling linearly to minProcessTick as storage fills.
+     */
     protected int calcEnergy() {
 
-        return Math.min(processTick, minProcessTick + (int) (processTick * (1.0D - energyStorage.getRatio())));
+        int[] curve = getEnergyCurve();
+        long capacity = energyStorage.getMaxEnergyStored();
+        if (capacity <= 0) {
+            return curve[processTick];
+        }
+        // ceil(processTick * stored / capacity), i.e. the curve index for the current fill level.
+        int index = (int) ((processTick * (long) energyStorage.getEnergyStored() + capacity - 1) / capacity);
+        return curve[MathHelper.clamp(index, 0, processTick)];
+    }
+
+    /**
+     * Lookup table for {@link #calcEnergy()}, indexed by fill level in units of processTick. Rebuilt whenever
+     * processTick changes.
+     */
+    protected int[] getEnergyCurve() {
+
+        if (energyCurve == null || energyCurve.length != processTick + 1) {
+            energyCurve = new int[processTick + 1];
+            for (int i = 0; i <= processTick; ++i) {
+                energyCurve[i] = Math.min(processTick, minProcessTick + processTick - i);
+            }
+        }
+        return energyCurve;
     }
     // endregion
 
-    // region HELPERS
-    protected void transferRF() {
+    // region FUEL
+    protected Object fuelKey;
+    protected int fuelGeneration;
+    protected int fuelEnergy;
 
-        TileEntity adjTile = BlockHelper.getAdjacentTileEntity(this, getFacing());
-        Direction opposite = getFacing().getOpposite();
+    /**
+     * Energy of the current fuel, before modifiers. Resolved once per fuel stack instance and kept until the stack is
+     * replaced or recipes are reloaded, so idle dynamos do not repeat the lookup on every check.
+     */
+    protected int getFuelEnergy() {
 
-        if (adjTile != null) {
-            int maxTransfer = Math.min(energyStorage.getMaxExtract(), energyStorage.getEnergyStored());
-            adjTile.getCapability(CapabilityEnergy.ENERGY, opposite)
-                    .ifPresent(e -> energyStorage.modify(-e.receiveEnergy(maxTransfer, false)));
+        Object key = getFuelKey();
+        if (key == null) {
+            return 0;
         }
+        int generation = ThermalRecipeManagers.instance().getGeneration();
+        if (key != fuelKey || generation != fuelGeneration) {
+            fuelKey = key;
+            fuelGeneration = generation;
+            fuelEnergy = resolveFuelEnergy();
+        }
+        return fuelEnergy;
+    }
+
+    /**
+     * @return The current fuel stack instance, or null if there is no fuel. Storages replace their stack instance
+     * whenever the contents change to something else, so identity is a sufficient key.
+     */
+    @Nullable
+    protected Object getFuelKey() {
+
+        return null;
+    }
+
+    protected int resolveFuelEnergy() {
+
+        return 0;
+    }
+    // endregion
+
+    // region HELPERS
+    protected void transferRF() {
+
+        int maxTransfer = Math.min(energyStorage.getMaxExtract(), energyStorage.getEnergyStored());
+        adjEnergyCaps.get(getFacing())
+                .ifPresent(e -> energyStorage.modify(-e.receiveEnergy(maxTransfer, false)));
     }
 
     protected Direction getFacing() {
@@ -211,23 +275,12 @@ public abstract class DynamoTileBase extends ThermalTileBase implements ITickabl
 
     // region NETWORK
     @Override
-    public PacketBuffer getGuiPacket(PacketBuffer buffer) {
-
-        super.getGuiPacket(buffer);
-
-        buffer.writeInt(fuelMax);
-        buffer.writeInt(fuel);
-
-        return buffer;
-    }
-
-    @Override
-    public void handleGuiPacket(PacketBuffer buffer) {
+    protected void initGuiSync(GuiSync sync) {
 
-        super.handleGuiPacket(buffer);
+        super.initGuiSync(sync);
 
-        fuelMax = buffer.readInt();
-        fuel = buffer.readInt();
+        sync.addInt(() -> fuelMax, value -> fuelMax = value);
+        sync.addInt(() -> fuel, value -> fuel = value, true);
     }
 
     @Override
@@ -265,7 +318,7 @@ public abstract class DynamoTileBase extends ThermalTileBase implements ITickabl
         fuel = nbt.getInt(TAG_FUEL);
         coolantMax = nbt.getInt(TAG_COOLANT_MAX);
         coolant = nbt.getInt(TAG_COOLANT);
-        processTick = nbt.getInt(TAG_PROCESS_TICK);
+        processTick = Math.max(nbt.getInt(TAG_PROCESS_TICK), 0);
     }
 
     @Override
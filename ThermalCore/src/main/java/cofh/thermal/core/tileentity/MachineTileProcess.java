@@ -3,22 +3,28 @@ package cofh.thermal.core.tileentity;
 import cofh.core.energy.EnergyStorageCoFH;
 import cofh.core.fluid.FluidStorageCoFH;
 import cofh.core.inventory.ItemStorageCoFH;
+import cofh.core.network.GuiSync;
 import cofh.core.network.packet.client.TileStatePacket;
 import cofh.core.util.Utils;
 import cofh.core.util.helpers.MathHelper;
+import cofh.thermal.core.common.ThermalRecipeManagers;
 import cofh.thermal.core.util.IMachineInventory;
 import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.core.util.recipes.internal.IRecipeCatalyst;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntityType;
+import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fluids.FluidStack;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import static cofh.core.util.constants.Constants.*;
 import static cofh.core.util.constants.NBTTags.*;
@@ -30,8 +36,18 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
 
     protected IMachineRecipe curRecipe;
     protected IRecipeCatalyst curCatalyst;
-    protected List<Integer> itemInputCounts = new ArrayList<>();
-    protected List<Integer> fluidInputCounts = new ArrayList<>();
+    // Reusable recipe result buffers, sized in initHandlers() once the slots and tanks exist.
+    protected int[] itemInputCounts = new int[0];
+    protected int[] fluidInputCounts = new int[0];
+    protected float[] itemOutputChances = new float[0];
+    protected boolean[] itemOutputsUsed = new boolean[0];
+    protected boolean[] fluidOutputsUsed = new boolean[0];
+
+    // Input fingerprint - identity of whatever was in each input slot and tank when the recipe was last looked up.
+    protected Item[] fingerprintItems = new Item[0];
+    protected Fluid[] fingerprintFluids = new Fluid[0];
+    protected CompoundNBT[] fingerprintFluidTags = new CompoundNBT[0];
+    protected int fingerprintGeneration = -1;
 
     protected int process;
     protected int processMax;
@@ -39,15 +55,25 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
     protected int baseProcessTick = getBaseProcessTick();
     protected int processTick = baseProcessTick;
 
+    protected static final int MAX_BATCH_SIZE = 16;
+
+    protected int batchSize = 1;
+
+    protected boolean dormant;
+
     public MachineTileProcess(TileEntityType<?> tileEntityTypeIn) {
 
         super(tileEntityTypeIn);
-        energyStorage = new EnergyStorageCoFH(getBaseEnergyStorage(), getBaseEnergyXfer());
+        energyStorage = new EnergyStorageCoFH(getBaseEnergyStorage(), getBaseEnergyXfer()).setReceiveCallback(this::wake);
     }
 
     @Override
     public void tick() {
 
+        if (dormant) {
+            tickDormant();
+            return;
+        }
         boolean curActive = isActive;
         if (isActive) {
             processTick();
@@ -69,16 +95,56 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
                 transferOutput();
                 transferInput();
             }
-            if (timeCheckQuarter() && canProcessStart()) {
-                processStart();
-                processTick();
-                isActive = true;
+            if (timeCheckQuarter()) {
+                if (canProcessStart()) {
+                    processStart();
+                    processTick();
+                    isActive = true;
+                } else if (canSleep()) {
+                    dormant = true;
+                }
             }
+        } else if (canSleep()) {
+            dormant = true;
         }
         updateActiveState(curActive);
         chargeEnergy();
     }
 
+    // region DORMANCY
+    /**
+     * A dormant machine skips its process checks entirely until something wakes it: an inventory or tank change,
+     * a neighbor or redstone change, a control update, or energy being received.
+     * <p>
+     * Auto-transfer still runs while dormant, as adjacent inventories cannot notify the machine.
+     */
+    protected void tickDormant() {
+
+        if (redstoneControl.getState() && timeCheck()) {
+            boolean transferred = transferOutput();
+            transferred |= transferInput();
+            if (transferred) {
+                wake();
+            }
+        }
+    }
+
+    protected boolean canSleep() {
+
+        return !isActive && !wasActive && chargeSlot.isEmpty();
+    }
+
+    protected void wake() {
+
+        dormant = false;
+    }
+
+    public boolean isDormant() {
+
+        return dormant;
+    }
+    // endregion
+
     // region PROCESS
     protected boolean canProcessStart() {
 
@@ -99,7 +165,8 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
     protected void processStart() {
 
         processTick = baseProcessTick;
-        int energy = curRecipe.getEnergy(this);
+        batchSize = calcBatchSize();
+        int energy = curRecipe.getEnergy(this) * batchSize;
 
         int minTicks = curRecipe.getMinTicks();
         if (minTicks > 0) {
@@ -121,6 +188,7 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
             processOff();
             return;
         }
+        applyBatchSize();
         resolveOutputs();
         resolveInputs();
         markDirty();
@@ -129,6 +197,7 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
     protected void processOff() {
 
         process = 0;
+        batchSize = 1;
         isActive = false;
         wasActive = true;
         clearRecipe();
@@ -149,17 +218,68 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
     // endregion
 
     // region HELPERS
+    @Override
+    protected void initHandlers() {
+
+        super.initHandlers();
+
+        itemInputCounts = new int[inputSlots().size()];
+        fluidInputCounts = new int[inputTanks().size()];
+        itemOutputChances = new float[outputSlots().size()];
+        itemOutputsUsed = new boolean[outputSlots().size()];
+        fluidOutputsUsed = new boolean[outputTanks().size()];
+
+        fingerprintItems = new Item[inputSlots().size()];
+        fingerprintFluids = new Fluid[inputTanks().size()];
+        fingerprintFluidTags = new CompoundNBT[inputTanks().size()];
+    }
+
     protected boolean cacheRecipe() {
 
         return false;
     }
 
+    /**
+     * Compares the current inputs against the fingerprint taken at the last recipe lookup, and updates it.
+     * Only the item/fluid identity matters here; counts are always recalculated.
+     *
+     * @return TRUE if the recipe (and catalyst) must be looked up again.
+     */
+    protected boolean updateInputFingerprint() {
+
+        boolean changed = curRecipe == null;
+
+        int generation = ThermalRecipeManagers.instance().getGeneration();
+        if (fingerprintGeneration != generation) {
+            fingerprintGeneration = generation;
+            changed = true;
+        }
+        List<? extends ItemStorageCoFH> slotInputs = inputSlots();
+        for (int i = 0; i < fingerprintItems.length; ++i) {
+            Item item = slotInputs.get(i).getItemStack().getItem();
+            if (fingerprintItems[i] != item) {
+                fingerprintItems[i] = item;
+                changed = true;
+            }
+        }
+        List<? extends FluidStorageCoFH> tankInputs = inputTanks();
+        for (int i = 0; i < fingerprintFluids.length; ++i) {
+            FluidStack fluid = tankInputs.get(i).getFluidStack();
+            if (fingerprintFluids[i] != fluid.getFluid() || !Objects.equals(fingerprintFluidTags[i], fluid.getTag())) {
+                fingerprintFluids[i] = fluid.getFluid();
+                fingerprintFluidTags[i] = fluid.hasTag() ? fluid.getTag().copy() : null;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
     protected void clearRecipe() {
 
         curRecipe = null;
         curCatalyst = null;
-        itemInputCounts = new ArrayList<>();
-        fluidInputCounts = new ArrayList<>();
+        Arrays.fill(itemInputCounts, 0);
+        Arrays.fill(fluidInputCounts, 0);
     }
 
     protected boolean validateInputs() {
@@ -168,15 +288,15 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
             return false;
         }
         List<? extends ItemStorageCoFH> slotInputs = inputSlots();
-        for (int i = 0; i < slotInputs.size() && i < itemInputCounts.size(); ++i) {
-            int inputCount = itemInputCounts.get(i);
+        for (int i = 0; i < slotInputs.size() && i < itemInputCounts.length; ++i) {
+            int inputCount = itemInputCounts[i];
             if (inputCount > 0 && slotInputs.get(i).getItemStack().getCount() < inputCount) {
                 return false;
             }
         }
         List<? extends FluidStorageCoFH> tankInputs = inputTanks();
-        for (int i = 0; i < tankInputs.size() && i < fluidInputCounts.size(); ++i) {
-            int inputCount = fluidInputCounts.get(i);
+        for (int i = 0; i < tankInputs.size() && i < fluidInputCounts.length; ++i) {
+            int inputCount = fluidInputCounts[i];
             FluidStack input = tankInputs.get(i).getFluidStack();
             if (inputCount > 0 && (input.isEmpty() || input.getAmount() < inputCount)) {
                 return false;
@@ -190,7 +310,8 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
         // ITEMS
         List<? extends ItemStorageCoFH> slotOutputs = outputSlots();
         List<ItemStack> recipeOutputItems = curRecipe.getOutputItems(this);
-        boolean[] used = new boolean[outputSlots().size()];
+        boolean[] used = itemOutputsUsed;
+        Arrays.fill(used, false);
         for (ItemStack recipeOutput : recipeOutputItems) {
             boolean matched = false;
             for (int i = 0; i < slotOutputs.size(); ++i) {
@@ -226,7 +347,8 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
         // FLUIDS
         List<? extends FluidStorageCoFH> tankOutputs = outputTanks();
         List<FluidStack> recipeOutputFluids = curRecipe.getOutputFluids(this);
-        used = new boolean[outputTanks().size()];
+        used = fluidOutputsUsed;
+        Arrays.fill(used, false);
         for (FluidStack recipeOutput : recipeOutputFluids) {
             boolean matched = false;
             for (int i = 0; i < tankOutputs.size(); ++i) {
@@ -259,46 +381,175 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
         return true;
     }
 
+    /**
+     * Number of recipe operations which the current inputs and output space allow in a single process, up to the
+     * limit set by augments. The whole batch shares one process cycle; energy scales linearly with its size.
+     */
+    protected int calcBatchSize() {
+
+        int batch = Math.min(getMaxBatchSize(), getInputBatchLimit());
+        if (batch <= 1) {
+            return 1;
+        }
+        List<ItemStack> recipeOutputItems = curRecipe.getOutputItems(this);
+        if (itemOutputChances.length < recipeOutputItems.size()) {
+            itemOutputChances = new float[recipeOutputItems.size()];
+        }
+        curRecipe.getOutputItemChances(this, itemOutputChances);
+
+        while (batch > 1 && !canFitOutputs(batch)) {
+            --batch;
+        }
+        return batch;
+    }
+
+    /**
+     * Clamps the batch to whatever the inputs still allow, refunding the energy of any dropped operations, then scales
+     * the cached input counts so that a single resolveInputs() pass consumes the entire batch. Catalyst use is rolled
+     * once per operation.
+     */
+    protected void applyBatchSize() {
+
+        int limit = MathHelper.clamp(getInputBatchLimit(), 1, batchSize);
+        if (limit < batchSize) {
+            energyStorage.modify(curRecipe.getEnergy(this) * (batchSize - limit));
+            batchSize = limit;
+        }
+        if (batchSize <= 1) {
+            return;
+        }
+        int catalystSlot = curRecipe.getCatalystSlot();
+        for (int i = 0; i < itemInputCounts.length; ++i) {
+            if (i == catalystSlot) {
+                itemInputCounts[i] = Math.min(inputSlots().get(i).getCount(), curRecipe.getCatalystUses(this, batchSize));
+            } else {
+                itemInputCounts[i] *= batchSize;
+            }
+        }
+        for (int i = 0; i < fluidInputCounts.length; ++i) {
+            fluidInputCounts[i] *= batchSize;
+        }
+    }
+
+    protected int getInputBatchLimit() {
+
+        int limit = Integer.MAX_VALUE;
+        int catalystSlot = curRecipe.getCatalystSlot();
+        List<? extends ItemStorageCoFH> slotInputs = inputSlots();
+        for (int i = 0; i < slotInputs.size() && i < itemInputCounts.length; ++i) {
+            if (itemInputCounts[i] > 0 && i != catalystSlot) {
+                limit = Math.min(limit, slotInputs.get(i).getCount() / itemInputCounts[i]);
+            }
+        }
+        List<? extends FluidStorageCoFH> tankInputs = inputTanks();
+        for (int i = 0; i < tankInputs.size() && i < fluidInputCounts.length; ++i) {
+            if (fluidInputCounts[i] > 0) {
+                limit = Math.min(limit, tankInputs.get(i).getAmount() / fluidInputCounts[i]);
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Conservative check - assumes every output roll succeeds. Requires itemOutputChances to be current.
+     */
+    protected boolean canFitOutputs(int batch) {
+
+        // ITEMS
+        List<? extends ItemStorageCoFH> slotOutputs = outputSlots();
+        List<ItemStack> recipeOutputItems = curRecipe.getOutputItems(this);
+        boolean[] used = itemOutputsUsed;
+        Arrays.fill(used, false);
+        for (int i = 0; i < recipeOutputItems.size(); ++i) {
+            ItemStack recipeOutput = recipeOutputItems.get(i);
+            float chance = itemOutputChances[i];
+            int required = batch * (chance <= BASE_CHANCE ? recipeOutput.getCount() : MathHelper.ceil(chance));
+            for (int j = 0; j < slotOutputs.size() && required > 0; ++j) {
+                ItemStack output = slotOutputs.get(j).getItemStack();
+                if (!used[j] && itemsEqualWithTags(output, recipeOutput)) {
+                    used[j] = true;
+                    required -= output.getMaxStackSize() - output.getCount();
+                }
+            }
+            for (int j = 0; j < slotOutputs.size() && required > 0; ++j) {
+                if (!used[j] && slotOutputs.get(j).isEmpty()) {
+                    used[j] = true;
+                    required -= recipeOutput.getMaxStackSize();
+                }
+            }
+            if (required > 0) {
+                return false;
+            }
+        }
+        // FLUIDS
+        List<? extends FluidStorageCoFH> tankOutputs = outputTanks();
+        List<FluidStack> recipeOutputFluids = curRecipe.getOutputFluids(this);
+        used = fluidOutputsUsed;
+        Arrays.fill(used, false);
+        for (FluidStack recipeOutput : recipeOutputFluids) {
+            int required = batch * recipeOutput.getAmount();
+            boolean matched = false;
+            for (int j = 0; j < tankOutputs.size(); ++j) {
+                FluidStorageCoFH tank = tankOutputs.get(j);
+                if (!used[j] && tank.getSpace() >= required && (tank.isEmpty() || fluidsEqual(tank.getFluidStack(), recipeOutput))) {
+                    used[j] = true;
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected void resolveOutputs() {
 
         List<ItemStack> recipeOutputItems = curRecipe.getOutputItems(this);
         List<FluidStack> recipeOutputFluids = curRecipe.getOutputFluids(this);
-        List<Float> recipeOutputChances = curRecipe.getOutputItemChances(this);
+        if (itemOutputChances.length < recipeOutputItems.size()) {
+            itemOutputChances = new float[recipeOutputItems.size()];
+        }
+        curRecipe.getOutputItemChances(this, itemOutputChances);
 
         // Output Items
         for (int i = 0; i < recipeOutputItems.size(); ++i) {
             ItemStack recipeOutput = recipeOutputItems.get(i);
-            float chance = recipeOutputChances.get(i);
-            int outputCount = chance <= BASE_CHANCE ? recipeOutput.getCount() : (int) chance;
-            while (world.rand.nextFloat() < chance) {
-                boolean matched = false;
-                for (ItemStorageCoFH slot : outputSlots()) {
-                    ItemStack output = slot.getItemStack();
-                    if (itemsEqualWithTags(output, recipeOutput) && output.getCount() < output.getMaxStackSize()) {
-                        output.grow(outputCount);
-                        matched = true;
-                        break;
-                    }
-                }
-                if (!matched) {
+            for (int op = 0; op < batchSize; ++op) {
+                float chance = itemOutputChances[i];
+                int outputCount = chance <= BASE_CHANCE ? recipeOutput.getCount() : (int) chance;
+                while (world.rand.nextFloat() < chance) {
+                    boolean matched = false;
                     for (ItemStorageCoFH slot : outputSlots()) {
-                        if (slot.isEmpty()) {
-                            slot.setItemStack(cloneStack(recipeOutput, outputCount));
+                        ItemStack output = slot.getItemStack();
+                        if (itemsEqualWithTags(output, recipeOutput) && output.getCount() < output.getMaxStackSize()) {
+                            output.grow(outputCount);
+                            matched = true;
                             break;
                         }
                     }
+                    if (!matched) {
+                        for (ItemStorageCoFH slot : outputSlots()) {
+                            if (slot.isEmpty()) {
+                                slot.setItemStack(cloneStack(recipeOutput, outputCount));
+                                break;
+                            }
+                        }
+                    }
+                    chance -= BASE_CHANCE * outputCount;
+                    outputCount = 1;
                 }
-                chance -= BASE_CHANCE * outputCount;
-                outputCount = 1;
             }
         }
         // Output Fluids
         for (FluidStack recipeOutput : recipeOutputFluids) {
             boolean matched = false;
+            int amount = recipeOutput.getAmount() * batchSize;
             for (FluidStorageCoFH tank : outputTanks()) {
                 FluidStack output = tank.getFluidStack();
-                if (tank.getSpace() >= recipeOutput.getAmount() && fluidsEqual(output, recipeOutput)) {
-                    output.setAmount(output.getAmount() + recipeOutput.getAmount());
+                if (tank.getSpace() >= amount && fluidsEqual(output, recipeOutput)) {
+                    output.setAmount(output.getAmount() + amount);
                     matched = true;
                     break;
                 }
@@ -306,7 +557,7 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
             if (!matched) {
                 for (FluidStorageCoFH tank : outputTanks()) {
                     if (tank.isEmpty()) {
-                        tank.setFluidStack(recipeOutput.copy());
+                        tank.setFluidStack(new FluidStack(recipeOutput, amount));
                         break;
                     }
                 }
@@ -317,12 +568,12 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
     protected void resolveInputs() {
 
         // Input Items
-        for (int i = 0; i < itemInputCounts.size(); ++i) {
-            inputSlots().get(i).consume(itemInputCounts.get(i));
+        for (int i = 0; i < itemInputCounts.length; ++i) {
+            inputSlots().get(i).consume(itemInputCounts[i]);
         }
         // Input Fluids
-        for (int i = 0; i < fluidInputCounts.size(); ++i) {
-            inputTanks().get(i).modify(-fluidInputCounts.get(i));
+        for (int i = 0; i < fluidInputCounts.length; ++i) {
+            inputTanks().get(i).modify(-fluidInputCounts[i]);
         }
     }
     // endregion
@@ -370,25 +621,13 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
 
     // region NETWORK
     @Override
-    public PacketBuffer getGuiPacket(PacketBuffer buffer) {
-
-        super.getGuiPacket(buffer);
-
-        buffer.writeInt(process);
-        buffer.writeInt(processMax);
-        buffer.writeInt(processTick);
-
-        return buffer;
-    }
-
-    @Override
-    public void handleGuiPacket(PacketBuffer buffer) {
+    protected void initGuiSync(GuiSync sync) {
 
-        super.handleGuiPacket(buffer);
+        super.initGuiSync(sync);
 
-        process = buffer.readInt();
-        processMax = buffer.readInt();
-        processTick = buffer.readInt();
+        sync.addInt(() -> process, value -> process = value, true);
+        sync.addInt(() -> processMax, value -> processMax = value);
+        sync.addInt(() -> processTick, value -> processTick = value);
     }
     // endregion
 
@@ -401,6 +640,7 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
         process = nbt.getInt(TAG_PROCESS);
         processMax = nbt.getInt(TAG_PROCESS_MAX);
         processTick = nbt.getInt(TAG_PROCESS_TICK);
+        batchSize = Math.max(1, nbt.getInt(TAG_PROCESS_BATCH));
     }
 
     @Override
@@ -411,6 +651,7 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
         nbt.putInt(TAG_PROCESS, process);
         nbt.putInt(TAG_PROCESS_MAX, processMax);
         nbt.putInt(TAG_PROCESS_TICK, processTick);
+        nbt.putInt(TAG_PROCESS_BATCH, batchSize);
 
         return nbt;
     }
@@ -424,6 +665,7 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
     protected float experienceMod = 1.0F;
     protected float minOutputChance = 0.0F;
     protected float catalystMod = 1.0F;
+    protected float parallelMod = 1.0F;
 
     @Override
     protected void resetAttributes() {
@@ -436,6 +678,7 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
         energyMod = 1.0F;
         experienceMod = 1.0F;
         catalystMod = 1.0F;
+        parallelMod = 1.0F;
         minOutputChance = 0.0F;
     }
 
@@ -450,6 +693,7 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
         energyMod *= getAttributeModWithDefault(augmentData, TAG_AUGMENT_MACHINE_ENERGY, 1.0F);
         experienceMod *= getAttributeModWithDefault(augmentData, TAG_AUGMENT_MACHINE_XP, 1.0F);
         catalystMod *= getAttributeModWithDefault(augmentData, TAG_AUGMENT_MACHINE_CATALYST, 1.0F);
+        parallelMod += getAttributeMod(augmentData, TAG_AUGMENT_MACHINE_PARALLEL);
         minOutputChance = Math.max(getAttributeMod(augmentData, TAG_AUGMENT_MACHINE_MIN_OUTPUT), minOutputChance);
     }
 
@@ -467,22 +711,50 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
         energyMod = MathHelper.clamp(energyMod, scaleMin, scaleMax);
         experienceMod = MathHelper.clamp(experienceMod, scaleMin, scaleMax);
         catalystMod = MathHelper.clamp(catalystMod, scaleMin, scaleMax);
+        parallelMod = MathHelper.clamp(parallelMod, 1.0F, MAX_BATCH_SIZE);
 
         processTick = baseProcessTick;
         if (curRecipe != null) {
             int minTicks = curRecipe.getMinTicks();
             if (minTicks > 0) {
-                int energy = curRecipe.getEnergy(this);
+                int energy = curRecipe.getEnergy(this) * batchSize;
                 processTick = Math.min(processTick, Math.max(getMinProcessTick(), energy / minTicks));
             }
         }
     }
+
+    protected final int getMaxBatchSize() {
+
+        return (int) parallelMod;
+    }
     // endregion
 
     // region ITileCallback
+    @Override
+    public void neighborChanged(Block blockIn, BlockPos fromPos) {
+
+        super.neighborChanged(blockIn, fromPos);
+        wake();
+    }
+
+    @Override
+    public void onControlUpdate() {
+
+        wake();
+        super.onControlUpdate();
+    }
+
+    @Override
+    public void onInventoryChange() {
+
+        wake();
+        super.onInventoryChange();
+    }
+
     @Override
     public void onInventoryChange(int slot) {
 
+        wake();
         super.onInventoryChange(slot);
 
         if (world != null && Utils.isServerWorld(world) && isActive) {
@@ -503,6 +775,7 @@ public abstract class MachineTileProcess extends ReconfigurableTile4Way implemen
     @Override
     public void onTankChange(int tank) {
 
+        wake();
         if (Utils.isServerWorld(world) && tank < tankInv.getInputTanks().size()) {
             if (isActive) {
                 IMachineRecipe tempRecipe = curRecipe;
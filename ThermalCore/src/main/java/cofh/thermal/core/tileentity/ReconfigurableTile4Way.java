@@ -3,6 +3,7 @@ package cofh.thermal.core.tileentity;
 import cofh.core.fluid.FluidStorageCoFH;
 import cofh.core.inventory.ItemStorageCoFH;
 import cofh.core.tileentity.TileCoFH;
+import cofh.core.util.NeighborCapCache;
 import cofh.core.util.control.IReconfigurableTile;
 import cofh.core.util.control.ITransferControllableTile;
 import cofh.core.util.control.ReconfigControlModule;
@@ -10,6 +11,8 @@ import cofh.core.util.control.TransferControlModule;
 import cofh.core.util.helpers.EnergyHelper;
 import cofh.core.util.helpers.FluidHelper;
 import cofh.core.util.helpers.InventoryHelper;
+import cofh.thermal.core.common.ThermalConfig;
+import cofh.thermal.core.util.TransferBackoff;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
@@ -47,6 +50,12 @@ public abstract class ReconfigurableTile4Way extends ThermalTileBase implements
     protected int inputTracker;
     protected int outputTracker;
 
+    protected final NeighborCapCache<IItemHandler> adjItemCaps = NeighborCapCache.items(this);
+    protected final NeighborCapCache<IFluidHandler> adjFluidCaps = NeighborCapCache.fluids(this);
+
+    protected final TransferBackoff inputBackoff = new TransferBackoff();
+    protected final TransferBackoff outputBackoff = new TransferBackoff();
+
     protected ReconfigControlModule reconfigControl = new ReconfigControlModule(this);
     protected TransferControlModule transferControl = new TransferControlModule(this);
 
@@ -91,9 +100,16 @@ public abstract class ReconfigurableTile4Way extends ThermalTileBase implements
         return new ModelDataMap.Builder()
                 .withInitial(SIDES, reconfigControl().getRawSideConfig())
                 .withInitial(FLUID, renderFluid)
+                .withInitial(VISUAL_ACTIVE, isActive)
                 .build();
     }
 
+    @Override
+    protected boolean useVisualActiveState() {
+
+        return ThermalConfig.visualActiveState.get();
+    }
+
     // region HELPERS
     protected void updateSideCache() {
 
@@ -134,27 +150,47 @@ public abstract class ReconfigurableTile4Way extends ThermalTileBase implements
         }
     }
 
-    protected void transferInput() {
+    /**
+     * Pulls from adjacent inventories on input sides.
+     *
+     * @return TRUE if anything was transferred.
+     */
+    protected boolean transferInput() {
 
         if (!transferControl.getTransferIn()) {
-            return;
+            return false;
         }
         int newTracker = inputTracker;
         boolean updateTracker = false;
+        boolean transferred = false;
 
         for (int i = inputTracker + 1; i <= inputTracker + 6; ++i) {
             Direction side = DIRECTIONS[i % 6];
-            if (reconfigControl.getSideConfig(side).isInput()) {
-                for (ItemStorageCoFH slot : inputSlots()) {
-                    if (slot.getSpace() > 0) {
-                        InventoryHelper.extractFromAdjacent(this, slot, Math.min(getInputItemAmount(), slot.getSpace()), side);
+            if (reconfigControl.getSideConfig(side).isInput() && !inputBackoff.skip(side)) {
+                boolean attempted = false;
+                boolean sideTransferred = false;
+                if (!inputSlots().isEmpty()) {
+                    IItemHandler handler = adjItemCaps.get(side).orElse(EmptyHandler.INSTANCE);
+                    for (ItemStorageCoFH slot : inputSlots()) {
+                        if (slot.getSpace() > 0) {
+                            attempted = true;
+                            sideTransferred |= InventoryHelper.extractFromHandler(handler, slot, Math.min(getInputItemAmount(), slot.getSpace()));
+                        }
                     }
                 }
-                for (FluidStorageCoFH tank : inputTanks()) {
-                    if (tank.getSpace() > 0) {
-                        FluidHelper.extractFromAdjacent(this, tank, Math.min(getInputFluidAmount(), tank.getSpace()), side);
+                if (!inputTanks().isEmpty()) {
+                    IFluidHandler handler = adjFluidCaps.get(side).orElse(EmptyFluidHandler.INSTANCE);
+                    for (FluidStorageCoFH tank : inputTanks()) {
+                        if (tank.getSpace() > 0) {
+                            attempted = true;
+                            sideTransferred |= FluidHelper.extractFromHandler(handler, tank, Math.min(getInputFluidAmount(), tank.getSpace()));
+                        }
                     }
                 }
+                if (attempted) {
+                    inputBackoff.update(side, sideTransferred);
+                }
+                transferred |= sideTransferred;
                 if (!updateTracker) {
                     newTracker = side.ordinal();
                     updateTracker = true;
@@ -162,25 +198,50 @@ public abstract class ReconfigurableTile4Way extends ThermalTileBase implements
             }
         }
         inputTracker = newTracker;
+        return transferred;
     }
 
-    protected void transferOutput() {
+    /**
+     * Pushes into adjacent inventories on output sides.
+     *
+     * @return TRUE if anything was transferred.
+     */
+    protected boolean transferOutput() {
 
         if (!transferControl.getTransferOut()) {
-            return;
+            return false;
         }
         int newTracker = outputTracker;
         boolean updateTracker = false;
+        boolean transferred = false;
 
         for (int i = outputTracker + 1; i <= outputTracker + 6; ++i) {
             Direction side = DIRECTIONS[i % 6];
-            if (reconfigControl.getSideConfig(side).isOutput()) {
-                for (ItemStorageCoFH slot : outputSlots()) {
-                    InventoryHelper.insertIntoAdjacent(this, slot, getOutputItemAmount(), side);
+            if (reconfigControl.getSideConfig(side).isOutput() && !outputBackoff.skip(side)) {
+                boolean attempted = false;
+                boolean sideTransferred = false;
+                if (!outputSlots().isEmpty()) {
+                    IItemHandler handler = adjItemCaps.get(side).orElse(EmptyHandler.INSTANCE);
+                    for (ItemStorageCoFH slot : outputSlots()) {
+                        if (!slot.isEmpty()) {
+                            attempted = true;
+                            sideTransferred |= InventoryHelper.insertIntoHandler(handler, slot, getOutputItemAmount());
+                        }
+                    }
+                }
+                if (!outputTanks().isEmpty()) {
+                    IFluidHandler handler = adjFluidCaps.get(side).orElse(EmptyFluidHandler.INSTANCE);
+                    for (FluidStorageCoFH tank : outputTanks()) {
+                        if (!tank.isEmpty()) {
+                            attempted = true;
+                            sideTransferred |= FluidHelper.insertIntoHandler(handler, tank, getOutputFluidAmount());
+                        }
+                    }
                 }
-                for (FluidStorageCoFH tank : outputTanks()) {
-                    FluidHelper.insertIntoAdjacent(this, tank, getOutputFluidAmount(), side);
+                if (attempted) {
+                    outputBackoff.update(side, sideTransferred);
                 }
+                transferred |= sideTransferred;
                 if (!updateTracker) {
                     newTracker = side.ordinal();
                     updateTracker = true;
@@ -188,6 +249,7 @@ public abstract class ReconfigurableTile4Way extends ThermalTileBase implements
             }
         }
         outputTracker = newTracker;
+        return transferred;
     }
 
     protected int getInputItemAmount() {
@@ -214,7 +276,23 @@ public abstract class ReconfigurableTile4Way extends ThermalTileBase implements
     public void neighborChanged(Block blockIn, BlockPos fromPos) {
 
         super.neighborChanged(blockIn, fromPos);
-        // TODO: Handle caching of neighbor caps?
+
+        adjItemCaps.invalidate(fromPos);
+        adjFluidCaps.invalidate(fromPos);
+        resetTransferBackoff();
+    }
+
+    @Override
+    public void neighborTileChanged(BlockPos fromPos) {
+
+        super.neighborTileChanged(fromPos);
+        resetTransferBackoff();
+    }
+
+    protected void resetTransferBackoff() {
+
+        inputBackoff.reset();
+        outputBackoff.reset();
     }
     // endregion
 
@@ -309,8 +387,23 @@ public abstract class ReconfigurableTile4Way extends ThermalTileBase implements
     public void onControlUpdate() {
 
         updateSidedHandlers();
+        resetTransferBackoff();
         super.onControlUpdate();
     }
+
+    @Override
+    public void onInventoryChange(int slot) {
+
+        resetTransferBackoff();
+        super.onInventoryChange(slot);
+    }
+
+    @Override
+    public void onTankChange(int tank) {
+
+        resetTransferBackoff();
+        super.onTankChange(tank);
+    }
     // endregion
 
     // region CAPABILITIES
@@ -5,6 +5,8 @@ import cofh.core.fluid.FluidStorageCoFH;
 import cofh.core.fluid.ManagedTankInv;
 import cofh.core.inventory.ItemStorageCoFH;
 import cofh.core.inventory.ManagedItemInv;
+import cofh.core.network.FluidPalette;
+import cofh.core.network.GuiSync;
 import cofh.core.network.packet.client.TileControlPacket;
 import cofh.core.network.packet.client.TileRedstonePacket;
 import cofh.core.network.packet.client.TileStatePacket;
@@ -20,6 +22,7 @@ import cofh.core.util.helpers.AugmentDataHelper;
 import cofh.core.util.helpers.MathHelper;
 import cofh.thermal.core.common.ThermalConfig;
 import cofh.thermal.core.util.IThermalInventory;
+import cofh.thermal.core.util.ThermalTickScheduler;
 import cofh.thermal.core.util.loot.TileNBTSync;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.block.Block;
@@ -31,6 +34,7 @@ import net.minecraft.inventory.container.INamedContainerProvider;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.ResourceLocation;
@@ -63,6 +67,7 @@ public abstract class ThermalTileBase extends TileCoFH implements ISecurableTile
     public static final ModelProperty<byte[]> SIDES = new ModelProperty<>();
     public static final ModelProperty<FluidStack> FLUID = new ModelProperty<>();
     public static final ModelProperty<ResourceLocation> UNDERLAY = new ModelProperty<>();
+    public static final ModelProperty<Boolean> VISUAL_ACTIVE = new ModelProperty<>();
 
     protected static final int MIN_PROCESS_TICK = 5;
     protected static final int BASE_PROCESS_TICK = 20;
@@ -110,6 +115,23 @@ public abstract class ThermalTileBase extends TileCoFH implements ISecurableTile
     }
     // endregion
 
+    @Override
+    public void onLoad() {
+
+        super.onLoad();
+
+        if (world != null && Utils.isServerWorld(world) && this instanceof ITickableTileEntity && ThermalConfig.batchTileTicks.get()) {
+            ThermalTickScheduler.register(this);
+        }
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+
+        super.onChunkUnloaded();
+        ThermalTickScheduler.unregister(this);
+    }
+
     // TODO: Does this need to exist?
     @Override
     public void remove() {
@@ -154,11 +176,26 @@ public abstract class ThermalTileBase extends TileCoFH implements ISecurableTile
         // TODO: Config time delay
         if (!wasActive && curActive != isActive || wasActive && (timeTracker.hasDelayPassed(world, 40) || timeTracker.notSet())) {
             wasActive = false;
-            world.setBlockState(pos, getBlockState().with(ACTIVE, isActive));
+            if (useVisualActiveState()) {
+                // Clear out any ACTIVE state left over from before the option was enabled.
+                if (getBlockState().get(ACTIVE)) {
+                    world.setBlockState(pos, getBlockState().with(ACTIVE, false));
+                }
+            } else {
+                world.setBlockState(pos, getBlockState().with(ACTIVE, isActive));
+            }
             TileStatePacket.sendToClient(this);
         }
     }
 
+    /**
+     * If TRUE, the active flag is never written to the block state; clients receive it via the state packet and render it through model data.
+     */
+    protected boolean useVisualActiveState() {
+
+        return false;
+    }
+
     protected boolean cacheRenderFluid() {
 
         return false;
@@ -336,31 +373,31 @@ public abstract class ThermalTileBase extends TileCoFH implements ISecurableTile
 
     // region NETWORK
     @Override
-    public PacketBuffer getControlPacket(PacketBuffer buffer) {
+    protected void initGuiSync(GuiSync sync) {
 
-        super.getControlPacket(buffer);
-
-        securityControl.writeToBuffer(buffer);
-        redstoneControl.writeToBuffer(buffer);
+        super.initGuiSync(sync);
 
-        buffer.writeFluidStack(renderFluid);
+        sync.addBoolean(() -> isActive, value -> isActive = value);
+        sync.addFluid(() -> renderFluid, value -> renderFluid = value);
+        sync.addInt(() -> energyStorage.getMaxEnergyStored(), value -> energyStorage.setCapacity(value));
+        sync.addInt(() -> energyStorage.getEnergyStored(), value -> energyStorage.setEnergyStored(value), true);
 
-        return buffer;
+        for (int i = 0; i < tankInv.getTanks(); ++i) {
+            int tank = i;
+            sync.addFluid(() -> tankInv.get(tank), value -> tankInv.set(tank, value), true);
+        }
     }
 
     @Override
-    public PacketBuffer getGuiPacket(PacketBuffer buffer) {
+    public PacketBuffer getControlPacket(PacketBuffer buffer) {
 
-        super.getGuiPacket(buffer);
+        super.getControlPacket(buffer);
 
-        buffer.writeBoolean(isActive);
-        buffer.writeFluidStack(renderFluid);
-        buffer.writeInt(energyStorage.getMaxEnergyStored());
-        buffer.writeInt(energyStorage.getEnergyStored());
+        securityControl.writeToBuffer(buffer);
+        redstoneControl.writeToBuffer(buffer);
+
+        FluidPalette.write(buffer, renderFluid);
 
-        for (int i = 0; i < tankInv.getTanks(); ++i) {
-            buffer.writeFluidStack(tankInv.get(i));
-        }
         return buffer;
     }
 
@@ -380,7 +417,7 @@ public abstract class ThermalTileBase extends TileCoFH implements ISecurableTile
         super.getStatePacket(buffer);
 
         buffer.writeBoolean(isActive);
-        buffer.writeFluidStack(renderFluid);
+        FluidPalette.write(buffer, renderFluid);
 
         return buffer;
     }
@@ -393,22 +430,7 @@ public abstract class ThermalTileBase extends TileCoFH implements ISecurableTile
         securityControl.readFromBuffer(buffer);
         redstoneControl.readFromBuffer(buffer);
 
-        renderFluid = buffer.readFluidStack();
-    }
-
-    @Override
-    public void handleGuiPacket(PacketBuffer buffer) {
-
-        super.handleGuiPacket(buffer);
-
-        isActive = buffer.readBoolean();
-        renderFluid = buffer.readFluidStack();
-        energyStorage.setCapacity(buffer.readInt());
-        energyStorage.setEnergyStored(buffer.readInt());
-
-        for (int i = 0; i < tankInv.getTanks(); ++i) {
-            tankInv.set(i, buffer.readFluidStack());
-        }
+        renderFluid = FluidPalette.read(buffer);
     }
 
     @Override
@@ -424,8 +446,19 @@ public abstract class ThermalTileBase extends TileCoFH implements ISecurableTile
 
         super.handleStatePacket(buffer);
 
+        boolean prevActive = isActive;
         isActive = buffer.readBoolean();
-        renderFluid = buffer.readFluidStack();
+        renderFluid = FluidPalette.read(buffer);
+
+        if (prevActive != isActive && useVisualActiveState() && ThermalConfig.visualActiveLight.get()) {
+            world.getLightManager().checkBlock(pos);
+        }
+    }
+
+    @Override
+    public boolean hasActiveLight() {
+
+        return isActive && world != null && world.isRemote && useVisualActiveState() && ThermalConfig.visualActiveLight.get();
     }
     // endregion
 
@@ -2,6 +2,7 @@ package cofh.thermal.core.tileentity.device;
 
 import cofh.core.fluid.FluidStorageCoFH;
 import cofh.core.inventory.ItemStorageCoFH;
+import cofh.core.network.GuiSync;
 import cofh.core.network.packet.client.TileStatePacket;
 import cofh.core.util.Utils;
 import cofh.core.util.helpers.MathHelper;
@@ -54,7 +55,6 @@ public class DeviceTreeExtractorTile extends ThermalTileBase implements ITickabl
     private final BlockPos[] leafPos = new BlockPos[NUM_LEAVES];
 
     private int timeConstant = TIME_CONSTANT;
-    private final int timeOffset;
 
     private float boostMult;
     private int boostCycles;
@@ -62,7 +62,6 @@ public class DeviceTreeExtractorTile extends ThermalTileBase implements ITickabl
     public DeviceTreeExtractorTile() {
 
         super(DEVICE_TREE_EXTRACTOR_TILE);
-        timeOffset = MathHelper.RANDOM.nextInt(TIME_CONSTANT);
 
         inventory.addSlot(inputSlot, INPUT);
 
@@ -258,23 +257,12 @@ public class DeviceTreeExtractorTile extends ThermalTileBase implements ITickabl
     }
 
     @Override
-    public PacketBuffer getGuiPacket(PacketBuffer buffer) {
+    protected void initGuiSync(GuiSync sync) {
 
-        super.getGuiPacket(buffer);
+        super.initGuiSync(sync);
 
-        buffer.writeInt(boostCycles);
-        buffer.writeFloat(boostMult);
-
-        return buffer;
-    }
-
-    @Override
-    public void handleGuiPacket(PacketBuffer buffer) {
-
-        super.handleGuiPacket(buffer);
-
-        boostCycles = buffer.readInt();
-        boostMult = buffer.readFloat();
+        sync.addInt(() -> boostCycles, value -> boostCycles = value);
+        sync.addFloat(() -> boostMult, value -> boostMult = (float) value);
     }
     // endregion
 
@@ -3,6 +3,7 @@ package cofh.thermal.core.tileentity.workbench;
 import cofh.core.energy.EnergyStorageCoFH;
 import cofh.core.fluid.FluidStorageCoFH;
 import cofh.core.inventory.ItemStorageCoFH;
+import cofh.core.network.GuiSync;
 import cofh.core.util.helpers.AugmentableHelper;
 import cofh.core.util.helpers.EnergyHelper;
 import cofh.core.util.helpers.FluidHelper;
@@ -13,7 +14,6 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.fluids.FluidStack;
@@ -140,21 +140,11 @@ public class TinkerBenchTile extends ThermalTileBase implements ITickableTileEnt
 
     // region NETWORK
     @Override
-    public PacketBuffer getGuiPacket(PacketBuffer buffer) {
+    protected void initGuiSync(GuiSync sync) {
 
-        super.getGuiPacket(buffer);
+        super.initGuiSync(sync);
 
-        buffer.writeByte(mode);
-
-        return buffer;
-    }
-
-    @Override
-    public void handleGuiPacket(PacketBuffer buffer) {
-
-        super.handleGuiPacket(buffer);
-
-        mode = buffer.readByte();
+        sync.addInt(() -> mode, value -> mode = (byte) value);
     }
     // endregion
 
@@ -0,0 +1,204 @@
+package cofh.thermal.core.util;
+
+import cofh.core.util.TileTickProfiler;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.crash.CrashReport;
+import net.minecraft.crash.CrashReportCategory;
+import net.minecraft.crash.ReportedException;
+import net.minecraft.tileentity.ITickableTileEntity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityType;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.AbstractChunkProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ticks server-side Thermal tiles in dense per-type batches, rather than leaving them scattered through the World's
+ * tickable list. Tiles register themselves on load and unregister on chunk unload; removed tiles are dropped lazily.
+ * <p>
+ * A registering tile is taken out of the World's tickable list. It was normally just appended there, so that is a
+ * check of the last entry; anything else is swept out in a single pass at the start of the next scheduler tick.
+ * <p>
+ * Registration changes are always deferred to the start of the next tick, so tiles may be placed or removed while
+ * the scheduler is ticking.
+ * <p>
+ * This is also where tile ticks are timed while a {@link TileTickProfiler} run is active.
+ */
+public class ThermalTickScheduler {
+
+    private static final Map<IWorld, ThermalTickScheduler> SCHEDULERS = new Reference2ObjectOpenHashMap<>();
+
+    private final Map<TileEntityType<?>, TileGroup> groupMap = new Reference2ObjectOpenHashMap<>();
+    private final List<TileGroup> groups = new ObjectArrayList<>();
+
+    private final ReferenceOpenHashSet<TileEntity> registered = new ReferenceOpenHashSet<>();
+    private final List<TileEntity> pendingAdd = new ObjectArrayList<>();
+    private final ReferenceOpenHashSet<TileEntity> pendingRemove = new ReferenceOpenHashSet<>();
+    private boolean pruneTickables;
+
+    private ThermalTickScheduler() {
+
+    }
+
+    // region STATIC
+    public static void register(TileEntity tile) {
+
+        if (!(tile instanceof ITickableTileEntity) || tile.getWorld() == null) {
+            return;
+        }
+        SCHEDULERS.computeIfAbsent(tile.getWorld(), w -> new ThermalTickScheduler()).add(tile);
+    }
+
+    public static void unregister(TileEntity tile) {
+
+        if (tile.getWorld() == null) {
+            return;
+        }
+        ThermalTickScheduler scheduler = SCHEDULERS.get(tile.getWorld());
+        if (scheduler != null) {
+            scheduler.remove(tile);
+        }
+    }
+
+    public static boolean isScheduled(TileEntity tile) {
+
+        ThermalTickScheduler scheduler = tile.getWorld() == null ? null : SCHEDULERS.get(tile.getWorld());
+        return scheduler != null && scheduler.registered.contains(tile);
+    }
+
+    public static void tick(World world) {
+
+        ThermalTickScheduler scheduler = SCHEDULERS.get(world);
+        if (scheduler != null) {
+            world.getProfiler().startSection("thermalTiles");
+            scheduler.tickGroups(world);
+            world.getProfiler().endSection();
+        }
+    }
+
+    public static void unload(IWorld world) {
+
+        SCHEDULERS.remove(world);
+    }
+    // endregion
+
+    private void add(TileEntity tile) {
+
+        pendingRemove.remove(tile);
+        if (registered.add(tile)) {
+            pendingAdd.add(tile);
+        }
+        List<TileEntity> tickables = tile.getWorld().tickableTileEntities;
+        int last = tickables.size() - 1;
+        if (last >= 0 && tickables.get(last) == tile) {
+            tickables.remove(last);
+        } else {
+            pruneTickables = true;
+        }
+    }
+
+    private void remove(TileEntity tile) {
+
+        if (registered.remove(tile) && !pendingAdd.remove(tile)) {
+            pendingRemove.add(tile);
+        }
+    }
+
+    private void tickGroups(World world) {
+
+        if (pruneTickables) {
+            world.tickableTileEntities.removeIf(registered::contains);
+            pruneTickables = false;
+        }
+        if (!pendingRemove.isEmpty()) {
+            for (TileGroup group : groups) {
+                group.removeAll(pendingRemove);
+            }
+            pendingRemove.clear();
+        }
+        if (!pendingAdd.isEmpty()) {
+            for (TileEntity tile : pendingAdd) {
+                groupMap.computeIfAbsent(tile.getType(), type -> {
+                    TileGroup group = new TileGroup();
+                    groups.add(group);
+                    return group;
+                }).add(tile);
+            }
+            pendingAdd.clear();
+        }
+        AbstractChunkProvider chunkProvider = world.getChunkProvider();
+        boolean profile = TileTickProfiler.isRunning();
+        for (TileGroup group : groups) {
+            group.tick(this, chunkProvider, profile);
+        }
+    }
+
+    // region GROUP
+    private static class TileGroup {
+
+        private TileEntity[] tiles = new TileEntity[16];
+        private int size;
+
+        void add(TileEntity tile) {
+
+            if (size == tiles.length) {
+                tiles = Arrays.copyOf(tiles, size * 2);
+            }
+            tiles[size++] = tile;
+        }
+
+        void removeAll(ReferenceOpenHashSet<TileEntity> remove) {
+
+            int j = 0;
+            for (int i = 0; i < size; ++i) {
+                TileEntity tile = tiles[i];
+                if (!remove.contains(tile)) {
+                    tiles[j++] = tile;
+                }
+            }
+            Arrays.fill(tiles, j, size, null);
+            size = j;
+        }
+
+        void tick(ThermalTickScheduler scheduler, AbstractChunkProvider chunkProvider, boolean profile) {
+
+            // Removed tiles are compacted out in the same pass which ticks the live ones.
+            TileEntity[] tiles = this.tiles;
+            int j = 0;
+            for (int i = 0; i < size; ++i) {
+                TileEntity tile = tiles[i];
+                if (tile.isRemoved() || !tile.hasWorld()) {
+                    scheduler.registered.remove(tile);
+                    continue;
+                }
+                if (chunkProvider.canTick(tile.getPos())) {
+                    try {
+                        if (profile) {
+                            long start = System.nanoTime();
+                            ((ITickableTileEntity) tile).tick();
+                            TileTickProfiler.record(tile, System.nanoTime() - start);
+                        } else {
+                            ((ITickableTileEntity) tile).tick();
+                        }
+                    } catch (Throwable t) {
+                        CrashReport report = CrashReport.makeCrashReport(t, "Ticking block entity");
+                        CrashReportCategory category = report.makeCategory("Block entity being ticked");
+                        tile.addInfoToCrashReport(category);
+                        throw new ReportedException(report);
+                    }
+                }
+                tiles[j++] = tile;
+            }
+            Arrays.fill(tiles, j, size, null);
+            size = j;
+        }
+
+    }
+    // endregion
+}
@@ -0,0 +1,59 @@
+package cofh.thermal.core.util;
+
+import net.minecraft.util.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Per-side exponential backoff for automatic transfers. Each consecutive failed attempt on a side doubles the number
+ * of attempts skipped before that side is tried again, up to 2^MAX_LEVEL - 1.
+ * <p>
+ * Any successful transfer resets the side; owners should also reset when a neighbor or their own storage changes.
+ */
+public class TransferBackoff {
+
+    public static final int MAX_LEVEL = 4;
+
+    private final byte[] level = new byte[6];
+    private final byte[] skip = new byte[6];
+
+    /**
+     * Call once per attempt on a side.
+     *
+     * @return TRUE if the attempt should be skipped.
+     */
+    public boolean skip(Direction side) {
+
+        int i = side.ordinal();
+        if (skip[i] > 0) {
+            --skip[i];
+            return true;
+        }
+        return false;
+    }
+
+    public void update(Direction side, boolean transferred) {
+
+        int i = side.ordinal();
+        if (transferred) {
+            level[i] = 0;
+        } else if (level[i] < MAX_LEVEL) {
+            ++level[i];
+        }
+        skip[i] = (byte) ((1 << level[i]) - 1);
+    }
+
+    public void reset(Direction side) {
+
+        int i = side.ordinal();
+        level[i] = 0;
+        skip[i] = 0;
+    }
+
+    public void reset() {
+
+        Arrays.fill(level, (byte) 0);
+        Arrays.fill(skip, (byte) 0);
+    }
+
+}
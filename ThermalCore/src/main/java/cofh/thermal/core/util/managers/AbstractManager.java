@@ -2,7 +2,11 @@ package cofh.thermal.core.util.managers;
 
 import cofh.core.util.ComparableItemStack;
 import cofh.core.util.ComparableItemStackNBT;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.RecipeManager;
+
+import javax.annotation.Nullable;
 
 public abstract class AbstractManager implements IManager {
 
@@ -40,6 +44,113 @@ public abstract class AbstractManager implements IManager {
         return new ComparableItemStackNBT(stack);
     }
 
+    /**
+     * Allocation-free key for item-only lookups - the raw registry id of the item, which is also what
+     * {@link ComparableItemStack} hashes and compares on. Maps using this key are rebuilt on every refresh.
+     */
+    public static int itemKey(ItemStack stack) {
+
+        return Item.getIdFromItem(stack.getItem());
+    }
+
+    // region MULTI-ITEM KEYS
+    public static final int MAX_PACKED_ITEMS = 3;
+    public static final long INVALID_KEY = -1L;
+
+    protected static final int PACKED_BITS = 21;
+    protected static final int PACKED_MASK = (1 << PACKED_BITS) - 1;
+
+    /**
+     * Reusable id buffer for building packed keys during lookups. Thread-local, as recipe queries also happen off the
+     * server thread (JEI, client-side GUIs).
+     */
+    protected static final ThreadLocal<int[]> KEY_SCRATCH = ThreadLocal.withInitial(() -> new int[MAX_PACKED_ITEMS]);
+
+    /**
+     * Packs up to {@link #MAX_PACKED_ITEMS} item keys into a single long, 21 bits each. Ids are offset by one so that
+     * an absent entry never matches a real item, and the sign bit is never set for a valid key.
+     *
+     * @param ids       Item keys, see {@link #itemKey(ItemStack)}. Reordered in place if unordered.
+     * @param count     Number of valid entries in ids.
+     * @param unordered If TRUE, the key is independent of order and duplicates; otherwise it is positional.
+     * @return The packed key, or {@link #INVALID_KEY} if there are too many entries or an id does not fit.
+     */
+    public static long packItemKeys(int[] ids, int count, boolean unordered) {
+
+        if (count <= 0 || count > MAX_PACKED_ITEMS) {
+            return INVALID_KEY;
+        }
+        if (unordered) {
+            for (int i = 1; i < count; ++i) {
+                int id = ids[i];
+                int j = i - 1;
+                while (j >= 0 && ids[j] > id) {
+                    ids[j + 1] = ids[j];
+                    --j;
+                }
+                ids[j + 1] = id;
+            }
+        }
+        long key = 0;
+        int prev = -1;
+        for (int i = 0; i < count; ++i) {
+            int id = ids[i];
+            if (unordered && id == prev) {
+                continue;
+            }
+            if (id < 0 || id >= PACKED_MASK) {
+                return INVALID_KEY;
+            }
+            key = (key << PACKED_BITS) | (id + 1);
+            prev = id;
+        }
+        return key;
+    }
+
+    /**
+     * Packs an item key and a fluid key (see {@link FluidKeyTable}) into a single long. Either may be negative to
+     * denote an absent input; item-only, fluid-only and combined keys never collide.
+     */
+    public static long packItemFluidKey(int itemKey, int fluidKey) {
+
+        return ((long) (itemKey + 1) << 32) | (fluidKey + 1L);
+    }
+    // endregion
+
+    // region SNAPSHOTS
+    @Override
+    public Runnable prepare(RecipeManager recipeManager) {
+
+        AbstractManager builder = createBuilder();
+        if (builder == null) {
+            return IManager.super.prepare(recipeManager);
+        }
+        builder.defaultEnergy = defaultEnergy;
+        builder.defaultScale = defaultScale;
+        builder.refresh(recipeManager);
+        return () -> publish(builder);
+    }
+
+    /**
+     * Creates a detached, empty instance of this manager, which is refreshed off-thread and then published.
+     *
+     * @return null if this manager must refresh in place.
+     */
+    @Nullable
+    protected AbstractManager createBuilder() {
+
+        return null;
+    }
+
+    /**
+     * Adopts the state built by a builder from {@link #createBuilder()}. The builder is discarded afterwards, so its
+     * collections are taken as-is rather than copied.
+     */
+    protected void publish(AbstractManager builder) {
+
+    }
+    // endregion
+
     public int getDefaultEnergy() {
 
         return defaultEnergy;
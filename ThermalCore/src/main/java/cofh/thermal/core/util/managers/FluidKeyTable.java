@@ -0,0 +1,105 @@
+package cofh.thermal.core.util.managers;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenCustomHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.fluid.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+import java.util.Objects;
+
+/**
+ * Interning table which assigns a small, dense id to each distinct fluid (or fluid + tag) registered with a manager.
+ * <p>
+ * Ids are exact - two fluids with the same hash never share an id - and probing with a stack does not allocate. Only
+ * the fluid and tag are keyed; amounts are ignored, so a tank's contents resolve to the same id as the recipe fluid.
+ * The table is cleared along with the owning manager on refresh.
+ */
+public class FluidKeyTable {
+
+    public static final int NONE = -1;
+
+    protected final boolean useTag;
+    protected final Object2IntOpenCustomHashMap<FluidStack> stackKeys = new Object2IntOpenCustomHashMap<>(FluidTagStrategy.INSTANCE);
+    protected final Reference2IntOpenHashMap<Fluid> fluidKeys = new Reference2IntOpenHashMap<>();
+
+    /**
+     * @param useTag If TRUE, fluids with different tags (e.g. potions) receive distinct ids.
+     */
+    public FluidKeyTable(boolean useTag) {
+
+        this.useTag = useTag;
+        stackKeys.defaultReturnValue(NONE);
+        fluidKeys.defaultReturnValue(NONE);
+    }
+
+    /**
+     * Returns the id for the given fluid, assigning a new one if it has not been seen before.
+     */
+    public int intern(FluidStack stack) {
+
+        int key = get(stack);
+        if (key == NONE) {
+            key = size();
+            if (useTag) {
+                stackKeys.put(new FluidStack(stack, 1), key);
+            } else {
+                fluidKeys.put(stack.getFluid(), key);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Returns the id for the given fluid, or {@link #NONE} if it was never interned.
+     */
+    public int get(FluidStack stack) {
+
+        return useTag ? stackKeys.getInt(stack) : fluidKeys.getInt(stack.getFluid());
+    }
+
+    public int size() {
+
+        return useTag ? stackKeys.size() : fluidKeys.size();
+    }
+
+    public void clear() {
+
+        stackKeys.clear();
+        fluidKeys.clear();
+    }
+
+    // region STRATEGY
+    /**
+     * Hashes and compares FluidStacks by fluid and tag. Forge's own FluidStack hashes the amount but does not compare
+     * it, so it cannot be used as a key for stacks of different sizes.
+     */
+    protected static class FluidTagStrategy implements Hash.Strategy<FluidStack> {
+
+        static final FluidTagStrategy INSTANCE = new FluidTagStrategy();
+
+        @Override
+        public int hashCode(FluidStack stack) {
+
+            if (stack == null) {
+                return 0;
+            }
+            return 31 * System.identityHashCode(stack.getFluid()) + (stack.getTag() == null ? 0 : stack.getTag().hashCode());
+        }
+
+        @Override
+        public boolean equals(FluidStack a, FluidStack b) {
+
+            if (a == b) {
+                return true;
+            }
+            if (a == null || b == null) {
+                return false;
+            }
+            return a.getFluid() == b.getFluid() && Objects.equals(a.getTag(), b.getTag());
+        }
+
+    }
+    // endregion
+
+}
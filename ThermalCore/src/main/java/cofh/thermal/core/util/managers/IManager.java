@@ -8,4 +8,15 @@ public interface IManager {
 
     void refresh(RecipeManager recipeManager);
 
+    /**
+     * Builds new state from the Recipe Manager without affecting anything currently visible to lookups. May be called
+     * off-thread, concurrently with other managers.
+     *
+     * @return Task which publishes the new state; run on the thread which performs lookups.
+     */
+    default Runnable prepare(RecipeManager recipeManager) {
+
+        return () -> refresh(recipeManager);
+    }
+
 }
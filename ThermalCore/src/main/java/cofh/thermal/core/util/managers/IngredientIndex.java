@@ -0,0 +1,205 @@
+package cofh.thermal.core.util.managers;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static cofh.thermal.core.util.managers.AbstractManager.itemKey;
+
+/**
+ * Order-independent matcher for recipes with several item ingredients.
+ * <p>
+ * Each recipe is stored once. For every ingredient position, an item id maps to the set of recipes whose ingredient in
+ * that position accepts the item; a lookup intersects those sets and confirms the (at most few) survivors with an exact
+ * assignment of items to ingredients. This avoids expanding every combination of matching stacks at reload.
+ * <p>
+ * A recipe matches when the distinct input items can be assigned one-to-one to its ingredients. Two ingredients are
+ * never satisfied by the same item, even across several slots; such a recipe needs as many distinct items as it has
+ * ingredients.
+ */
+public class IngredientIndex<R> {
+
+    protected final int maxIngredients;
+    protected final List<R> recipes = new ArrayList<>();
+    protected final Reference2IntMap<R> positions = new Reference2IntOpenHashMap<>();
+    protected final Int2ObjectMap<BitSet>[] slotIndex;
+    protected final BitSet[] bySize;
+
+    protected final ThreadLocal<BitSet[]> scratch = ThreadLocal.withInitial(() -> new BitSet[]{new BitSet(), new BitSet()});
+
+    @SuppressWarnings("unchecked")
+    public IngredientIndex(int maxIngredients) {
+
+        this.maxIngredients = maxIngredients;
+        this.slotIndex = new Int2ObjectMap[maxIngredients];
+        this.bySize = new BitSet[maxIngredients + 1];
+        for (int i = 0; i < maxIngredients; ++i) {
+            slotIndex[i] = new Int2ObjectOpenHashMap<>();
+        }
+        for (int i = 0; i <= maxIngredients; ++i) {
+            bySize[i] = new BitSet();
+        }
+        positions.defaultReturnValue(-1);
+    }
+
+    /**
+     * @return FALSE if the recipe has no ingredients, too many, or an ingredient which matches nothing.
+     */
+    public boolean add(List<Ingredient> ingredients, R recipe) {
+
+        int size = ingredients.size();
+        if (size == 0 || size > maxIngredients) {
+            return false;
+        }
+        for (Ingredient ingredient : ingredients) {
+            if (ingredient.getMatchingStacks().length == 0) {
+                return false;
+            }
+        }
+        int index = recipes.size();
+        recipes.add(recipe);
+        positions.put(recipe, index);
+        bySize[size].set(index);
+        for (int i = 0; i < size; ++i) {
+            for (ItemStack stack : ingredients.get(i).getMatchingStacks()) {
+                if (!stack.isEmpty()) {
+                    slotIndex[i].computeIfAbsent(itemKey(stack), id -> new BitSet()).set(index);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param ids   Item keys of the non-empty inputs, see {@link AbstractManager#itemKey(ItemStack)}. Reordered in place.
+     * @param count Number of valid entries in ids.
+     * @return The first registered recipe which matches, or null.
+     */
+    public R get(int[] ids, int count) {
+
+        count = distinct(ids, count);
+        if (count <= 0 || count > maxIngredients) {
+            return null;
+        }
+        BitSet[] sets = scratch.get();
+        BitSet candidates = sets[0];
+        BitSet accepted = sets[1];
+
+        candidates.clear();
+        candidates.or(bySize[count]);
+        for (int i = 0; i < count && !candidates.isEmpty(); ++i) {
+            accepted.clear();
+            for (int j = 0; j < count; ++j) {
+                BitSet set = slotIndex[i].get(ids[j]);
+                if (set != null) {
+                    accepted.or(set);
+                }
+            }
+            candidates.and(accepted);
+        }
+        for (int r = candidates.nextSetBit(0); r >= 0; r = candidates.nextSetBit(r + 1)) {
+            if (assign(r, ids, count, 0, 0, null)) {
+                return recipes.get(r);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Repeats the assignment {@link #get(int[], int)} makes, for a recipe of this index.
+     *
+     * @param ids        Item keys of the non-empty inputs. Reordered in place.
+     * @param count      Number of valid entries in ids.
+     * @param assignment Receives, for each ingredient position, the item key assigned to that ingredient.
+     * @return FALSE if the recipe is not part of this index or does not match the inputs.
+     */
+    public boolean assign(R recipe, int[] ids, int count, int[] assignment) {
+
+        int r = positions.getInt(recipe);
+        if (r < 0) {
+            return false;
+        }
+        count = distinct(ids, count);
+        return count > 0 && bySize[count].get(r) && assign(r, ids, count, 0, 0, assignment);
+    }
+
+    public List<R> getRecipes() {
+
+        return recipes;
+    }
+
+    public void clear() {
+
+        recipes.clear();
+        positions.clear();
+        for (Int2ObjectMap<BitSet> map : slotIndex) {
+            map.clear();
+        }
+        for (BitSet set : bySize) {
+            set.clear();
+        }
+    }
+
+    // region HELPERS
+    protected boolean accepts(int slot, int id, int recipe) {
+
+        BitSet set = slotIndex[slot].get(id);
+        return set != null && set.get(recipe);
+    }
+
+    /**
+     * Tries to give each ingredient from position slot onwards a distinct, unused item. Inputs are capped at
+     * maxIngredients, so this is a handful of checks at most. If assignment is non-null, it receives the item chosen
+     * for each position.
+     */
+    protected boolean assign(int recipe, int[] ids, int count, int slot, int used, int[] assignment) {
+
+        if (slot == count) {
+            return true;
+        }
+        for (int j = 0; j < count; ++j) {
+            if ((used & (1 << j)) == 0 && accepts(slot, ids[j], recipe)) {
+                if (assignment != null) {
+                    assignment[slot] = ids[j];
+                }
+                if (assign(recipe, ids, count, slot + 1, used | (1 << j), assignment)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sorts and removes duplicates in place.
+     *
+     * @return The number of distinct entries.
+     */
+    protected static int distinct(int[] ids, int count) {
+
+        for (int i = 1; i < count; ++i) {
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= 0 && ids[j] > id) {
+                ids[j + 1] = ids[j];
+                --j;
+            }
+            ids[j + 1] = id;
+        }
+        int size = 0;
+        for (int i = 0; i < count; ++i) {
+            if (size == 0 || ids[size - 1] != ids[i]) {
+                ids[size++] = ids[i];
+            }
+        }
+        return size;
+    }
+    // endregion
+}
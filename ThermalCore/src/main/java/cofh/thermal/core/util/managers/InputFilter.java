@@ -0,0 +1,75 @@
+package cofh.thermal.core.util.managers;
+
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.registry.Registry;
+import net.minecraftforge.fluids.FluidStack;
+
+import java.util.BitSet;
+
+import static cofh.thermal.core.util.managers.AbstractManager.itemKey;
+
+/**
+ * Negative-lookup filter over raw item and fluid ids: every item or fluid which could ever be an input to a manager has
+ * its bit set.
+ * <p>
+ * Slot and tank validators check this before any exact lookup, so rejecting an item with no recipe at all is a single
+ * bit test - no allocation and no hashing. A set bit only means "maybe"; the exact lookup still decides. Ids are dense,
+ * so the sets stay small. Rebuilt with the owning manager on refresh.
+ */
+public class InputFilter {
+
+    protected final BitSet items = new BitSet();
+    protected final BitSet fluids = new BitSet();
+
+    public void addItem(ItemStack stack) {
+
+        if (!stack.isEmpty()) {
+            addItem(itemKey(stack));
+        }
+    }
+
+    public void addItem(int itemKey) {
+
+        if (itemKey >= 0) {
+            items.set(itemKey);
+        }
+    }
+
+    public void addFluid(FluidStack stack) {
+
+        if (!stack.isEmpty()) {
+            addFluid(stack.getFluid());
+        }
+    }
+
+    public void addFluid(Fluid fluid) {
+
+        fluids.set(fluidKey(fluid));
+    }
+
+    public boolean mayAccept(ItemStack stack) {
+
+        return !stack.isEmpty() && items.get(itemKey(stack));
+    }
+
+    public boolean mayAccept(FluidStack stack) {
+
+        return !stack.isEmpty() && fluids.get(fluidKey(stack.getFluid()));
+    }
+
+    public void clear() {
+
+        items.clear();
+        fluids.clear();
+    }
+
+    /**
+     * Raw registry id of the fluid; fluid tags are not part of the filter.
+     */
+    public static int fluidKey(Fluid fluid) {
+
+        return Math.max(Registry.FLUID.getId(fluid), 0);
+    }
+
+}
@@ -1,6 +1,5 @@
 package cofh.thermal.core.util.managers;
 
-import cofh.core.fluid.FluidStackHolder;
 import cofh.core.fluid.IFluidStackAccess;
 import cofh.core.inventory.IItemStackAccess;
 import cofh.core.util.helpers.FluidHelper;
@@ -8,14 +7,14 @@ import cofh.thermal.core.util.IThermalInventory;
 import cofh.thermal.core.util.recipes.ThermalFuel;
 import cofh.thermal.core.util.recipes.internal.BaseDynamoFuel;
 import cofh.thermal.core.util.recipes.internal.IDynamoFuel;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import static cofh.core.util.constants.Constants.BUCKET_VOLUME;
 
@@ -27,7 +26,8 @@ public abstract class SingleFluidFuelManager extends AbstractManager implements
     public static final int FLUID_FUEL_AMOUNT = 100;
     public static final int ENERGY_FACTOR = BUCKET_VOLUME / FLUID_FUEL_AMOUNT;
 
-    protected Map<Integer, IDynamoFuel> fuelMap = new Object2ObjectOpenHashMap<>();
+    protected Int2ObjectMap<IDynamoFuel> fuelMap = new Int2ObjectOpenHashMap<>();
+    protected InputFilter inputFilter = new InputFilter();
 
     protected SingleFluidFuelManager(int defaultEnergy) {
 
@@ -41,17 +41,25 @@ public abstract class SingleFluidFuelManager extends AbstractManager implements
 
     public boolean validFuel(FluidStack input) {
 
-        return getFuel(input) != null;
+        return inputFilter.mayAccept(input) && getFuel(input) != null;
     }
 
     protected void clear() {
 
         fuelMap.clear();
+        inputFilter.clear();
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        fuelMap = ((SingleFluidFuelManager) builder).fuelMap;
+        inputFilter = ((SingleFluidFuelManager) builder).inputFilter;
     }
 
     protected IDynamoFuel getFuel(FluidStack input) {
 
-        return getFuel(Collections.emptyList(), Collections.singletonList(new FluidStackHolder(input)));
+        return input.isEmpty() ? null : fuelMap.get(FluidHelper.fluidHashcode(input));
     }
 
     protected IDynamoFuel getFuel(List<? extends IItemStackAccess> inputSlots, List<? extends IFluidStackAccess> inputTanks) {
@@ -87,6 +95,7 @@ public abstract class SingleFluidFuelManager extends AbstractManager implements
 
         BaseDynamoFuel fuel = new BaseDynamoFuel(energy, inputItems, inputFluids);
         fuelMap.put(FluidHelper.fluidHashcode(input), fuel);
+        inputFilter.addFluid(input);
         return fuel;
     }
 
@@ -2,27 +2,26 @@ package cofh.thermal.core.util.managers;
 
 import cofh.core.fluid.IFluidStackAccess;
 import cofh.core.inventory.IItemStackAccess;
-import cofh.core.inventory.ItemStackHolder;
-import cofh.core.util.ComparableItemStack;
 import cofh.thermal.core.util.IThermalInventory;
 import cofh.thermal.core.util.recipes.ThermalFuel;
 import cofh.thermal.core.util.recipes.internal.BaseDynamoFuel;
 import cofh.thermal.core.util.recipes.internal.IDynamoFuel;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 public abstract class SingleItemFuelManager extends AbstractManager implements IFuelManager {
 
     public static final int MIN_ENERGY = 1000;
     public static final int MAX_ENERGY = 20000000;
 
-    protected Map<ComparableItemStack, IDynamoFuel> fuelMap = new Object2ObjectOpenHashMap<>();
+    protected Int2ObjectMap<IDynamoFuel> fuelMap = new Int2ObjectOpenHashMap<>();
+    protected InputFilter inputFilter = new InputFilter();
 
     protected SingleItemFuelManager(int defaultEnergy) {
 
@@ -38,17 +37,25 @@ public abstract class SingleItemFuelManager extends AbstractManager implements I
 
     public boolean validFuel(ItemStack input) {
 
-        return getFuel(input) != null;
+        return inputFilter.mayAccept(input) && getFuel(input) != null;
     }
 
     protected void clear() {
 
         fuelMap.clear();
+        inputFilter.clear();
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        fuelMap = ((SingleItemFuelManager) builder).fuelMap;
+        inputFilter = ((SingleItemFuelManager) builder).inputFilter;
     }
 
     protected IDynamoFuel getFuel(ItemStack input) {
 
-        return getFuel(Collections.singletonList(new ItemStackHolder(input)), Collections.emptyList());
+        return input.isEmpty() ? null : fuelMap.get(itemKey(input));
     }
 
     protected IDynamoFuel getFuel(List<? extends IItemStackAccess> inputSlots, List<? extends IFluidStackAccess> inputTanks) {
@@ -56,7 +63,7 @@ public abstract class SingleItemFuelManager extends AbstractManager implements I
         if (inputSlots.isEmpty() || inputSlots.get(0).isEmpty()) {
             return null;
         }
-        return fuelMap.get(convert(inputSlots.get(0).getItemStack()));
+        return fuelMap.get(itemKey(inputSlots.get(0).getItemStack()));
     }
 
     public IDynamoFuel addFuel(int energy, List<ItemStack> inputItems, List<FluidStack> inputFluids) {
@@ -74,7 +81,8 @@ public abstract class SingleItemFuelManager extends AbstractManager implements I
         energy = (int) (energy * getDefaultScale());
 
         BaseDynamoFuel fuel = new BaseDynamoFuel(energy, inputItems, inputFluids);
-        fuelMap.put(convert(input), fuel);
+        fuelMap.put(itemKey(input), fuel);
+        inputFilter.addItem(input);
         return fuel;
     }
 
@@ -2,8 +2,6 @@ package cofh.thermal.core.util.managers;
 
 import cofh.core.fluid.IFluidStackAccess;
 import cofh.core.inventory.IItemStackAccess;
-import cofh.core.inventory.ItemStackHolder;
-import cofh.core.util.ComparableItemStack;
 import cofh.thermal.core.util.IThermalInventory;
 import cofh.thermal.core.util.recipes.ThermalCatalyst;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
@@ -11,21 +9,24 @@ import cofh.thermal.core.util.recipes.internal.BaseMachineCatalyst;
 import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.core.util.recipes.internal.IRecipeCatalyst;
 import cofh.thermal.core.util.recipes.internal.SimpleMachineRecipe;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Simple recipe manager - single item key'd. Fluids NOT part of key.
  */
 public abstract class SingleItemRecipeManager extends AbstractManager implements IRecipeManager {
 
-    protected Map<ComparableItemStack, IMachineRecipe> recipeMap = new Object2ObjectOpenHashMap<>();
+    protected Int2ObjectMap<IMachineRecipe> recipeMap = new Int2ObjectOpenHashMap<>();
+    protected InputFilter inputFilter = new InputFilter();
 
     protected int maxOutputItems;
     protected int maxOutputFluids;
@@ -39,24 +40,39 @@ public abstract class SingleItemRecipeManager extends AbstractManager implements
 
     public void addRecipe(ThermalRecipe recipe) {
 
+        IMachineRecipe shared = null;
         for (ItemStack recipeInput : recipe.getInputItems().get(0).getMatchingStacks()) {
-            addRecipe(recipe.getEnergy(), recipe.getExperience(), recipe.getMinTicks(), Collections.singletonList(recipeInput), recipe.getInputFluids(), recipe.getOutputItems(), recipe.getOutputItemChances(), recipe.getOutputFluids());
+            if (shared instanceof SimpleMachineRecipe && !recipeInput.isEmpty()) {
+                // Input counts are positional, so one instance serves every matching stack.
+                recipeMap.put(itemKey(recipeInput), shared);
+                inputFilter.addItem(recipeInput);
+            } else {
+                shared = addRecipe(recipe.getEnergy(), recipe.getExperience(), recipe.getMinTicks(), Collections.singletonList(recipeInput), recipe.getInputFluids(), recipe.getOutputItems(), recipe.getOutputItemChances(), recipe.getOutputFluids());
+            }
         }
     }
 
     public boolean validRecipe(ItemStack input) {
 
-        return getRecipe(input) != null;
+        return inputFilter.mayAccept(input) && getRecipe(input) != null;
     }
 
     protected void clear() {
 
         recipeMap.clear();
+        inputFilter.clear();
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        recipeMap = ((SingleItemRecipeManager) builder).recipeMap;
+        inputFilter = ((SingleItemRecipeManager) builder).inputFilter;
     }
 
     protected IMachineRecipe getRecipe(ItemStack input) {
 
-        return getRecipe(Collections.singletonList(new ItemStackHolder(input)), Collections.emptyList());
+        return input.isEmpty() ? null : recipeMap.get(itemKey(input));
     }
 
     protected IMachineRecipe getRecipe(List<? extends IItemStackAccess> inputSlots, List<? extends IFluidStackAccess> inputTanks) {
@@ -64,7 +80,7 @@ public abstract class SingleItemRecipeManager extends AbstractManager implements
         if (inputSlots.isEmpty() || inputSlots.get(0).isEmpty()) {
             return null;
         }
-        return recipeMap.get(convert(inputSlots.get(0).getItemStack()));
+        return recipeMap.get(itemKey(inputSlots.get(0).getItemStack()));
     }
 
     protected IMachineRecipe addRecipe(int energy, float experience, int minTicks, List<ItemStack> inputItems, List<FluidStack> inputFluids, List<ItemStack> outputItems, List<Float> chance, List<FluidStack> outputFluids) {
@@ -89,7 +105,8 @@ public abstract class SingleItemRecipeManager extends AbstractManager implements
         energy = (int) (energy * getDefaultScale());
 
         SimpleMachineRecipe recipe = new SimpleMachineRecipe(energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
-        recipeMap.put(convert(input), recipe);
+        recipeMap.put(itemKey(input), recipe);
+        inputFilter.addItem(input);
         return recipe;
     }
 
@@ -118,14 +135,15 @@ public abstract class SingleItemRecipeManager extends AbstractManager implements
     @Override
     public List<IMachineRecipe> getRecipeList() {
 
-        return new ArrayList<>(recipeMap.values());
+        // Recipes may be shared between several keys.
+        return new ArrayList<>(new ReferenceLinkedOpenHashSet<>(recipeMap.values()));
     }
     // endregion
 
     // region CATALYZED CLASS
     public static abstract class Catalyzed extends SingleItemRecipeManager {
 
-        protected Map<ComparableItemStack, IRecipeCatalyst> catalystMap = new Object2ObjectOpenHashMap<>();
+        protected Int2ObjectMap<IRecipeCatalyst> catalystMap = new Int2ObjectOpenHashMap<>();
 
         protected Catalyzed(int defaultEnergy, int maxOutputItems, int maxOutputFluids) {
 
@@ -138,22 +156,29 @@ public abstract class SingleItemRecipeManager extends AbstractManager implements
             catalystMap.clear();
         }
 
+        @Override
+        protected void publish(AbstractManager builder) {
+
+            super.publish(builder);
+            catalystMap = ((Catalyzed) builder).catalystMap;
+        }
+
         public List<ItemStack> getCatalysts() {
 
             List<ItemStack> ret = new ArrayList<>(catalystMap.size());
-            catalystMap.keySet().forEach(stack -> ret.add(stack.toItemStack()));
+            catalystMap.keySet().forEach(id -> ret.add(new ItemStack(Item.getItemById(id))));
             return ret;
         }
 
         // region CATALYSTS
         public IRecipeCatalyst getCatalyst(IItemStackAccess input) {
 
-            return catalystMap.get(convert(input.getItemStack()));
+            return getCatalyst(input.getItemStack());
         }
 
         public IRecipeCatalyst getCatalyst(ItemStack input) {
 
-            return catalystMap.get(convert(input));
+            return input.isEmpty() ? null : catalystMap.get(itemKey(input));
         }
 
         public void addCatalyst(ThermalCatalyst catalyst) {
@@ -169,7 +194,7 @@ public abstract class SingleItemRecipeManager extends AbstractManager implements
                 return null;
             }
             BaseMachineCatalyst catalyst = new BaseMachineCatalyst(primaryMod, secondaryMod, energyMod, minChance, useChance);
-            catalystMap.put(convert(input), catalyst);
+            catalystMap.put(itemKey(input), catalyst);
             return catalyst;
         }
 
@@ -180,7 +205,7 @@ public abstract class SingleItemRecipeManager extends AbstractManager implements
 
         public IRecipeCatalyst removeCatalyst(ItemStack input) {
 
-            return catalystMap.remove(convert(input));
+            return catalystMap.remove(itemKey(input));
         }
         // endregion
     }
@@ -1,14 +1,14 @@
 package cofh.thermal.core.util.managers.device;
 
 import cofh.core.inventory.FalseIInventory;
-import cofh.core.util.ComparableItemStack;
 import cofh.thermal.core.init.TCoreRecipeTypes;
 import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.recipes.device.TreeExtractorBoost;
 import cofh.thermal.core.util.recipes.device.TreeExtractorMapping;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.block.*;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
@@ -25,8 +25,8 @@ public class TreeExtractorManager extends AbstractManager {
 
     private static final TreeExtractorManager INSTANCE = new TreeExtractorManager();
 
-    protected Map<ComparableItemStack, FluidStack> itemMap = new Object2ObjectOpenHashMap<>();
-    protected Map<ComparableItemStack, Pair<Float, Integer>> boostMap = new Object2ObjectOpenHashMap<>();
+    protected Int2ObjectMap<FluidStack> itemMap = new Int2ObjectOpenHashMap<>();
+    protected Int2ObjectMap<Pair<Float, Integer>> boostMap = new Int2ObjectOpenHashMap<>();
 
     protected IdentityHashMap<BlockState, FluidStack> trunkMap = new IdentityHashMap<>();
     protected SetMultimap<BlockState, BlockState> leafMap = HashMultimap.create();
@@ -93,24 +93,26 @@ public class TreeExtractorManager extends AbstractManager {
     // region BOOSTS
     public boolean validBoost(ItemStack item) {
 
-        return boostMap.containsKey(convert(item));
+        return boostMap.containsKey(itemKey(item));
     }
 
     public void addBoost(TreeExtractorBoost boost) {
 
         for (ItemStack ingredient : boost.getIngredient().getMatchingStacks()) {
-            boostMap.put(convert(ingredient), Pair.of(boost.getBoostMult(), boost.getBoostCycles()));
+            boostMap.put(itemKey(ingredient), Pair.of(boost.getBoostMult(), boost.getBoostCycles()));
         }
     }
 
     public float getBoostMultiplier(ItemStack item) {
 
-        return validBoost(item) ? boostMap.get(convert(item)).getLeft() : 1.0F;
+        Pair<Float, Integer> boost = boostMap.get(itemKey(item));
+        return boost != null ? boost.getLeft() : 1.0F;
     }
 
     public int getBoostCycles(ItemStack item) {
 
-        return validBoost(item) ? boostMap.get(convert(item)).getRight() : 0;
+        Pair<Float, Integer> boost = boostMap.get(itemKey(item));
+        return boost != null ? boost.getRight() : 0;
     }
     // endregion
 
@@ -134,6 +136,22 @@ public class TreeExtractorManager extends AbstractManager {
             addBoost((TreeExtractorBoost) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return new TreeExtractorManager();
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        TreeExtractorManager other = (TreeExtractorManager) builder;
+        itemMap = other.itemMap;
+        boostMap = other.boostMap;
+        trunkMap = other.trunkMap;
+        leafMap = other.leafMap;
+    }
     // endregion
 
     // region HELPERS
@@ -6,10 +6,8 @@ import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static cofh.core.util.constants.Constants.BASE_CHANCE_LOCKED;
 import static cofh.core.util.helpers.FluidHelper.fluidsEqual;
@@ -103,73 +101,56 @@ public class BaseMachineRecipe implements IMachineRecipe {
      * This shouldn't ever cause problems because you're relying on this method call and not hacking around in the recipe, right? ;)
      */
     @Override
-    public List<Float> getOutputItemChances(IMachineInventory inventory) {
+    public int getOutputItemChances(IMachineInventory inventory, float[] chances) {
 
-        ArrayList<Float> modifiedChances = new ArrayList<>(outputItemChances);
-        for (int i = 0; i < modifiedChances.size(); ++i) {
-            if (modifiedChances.get(i) < 0.0F) {
-                modifiedChances.set(i, Math.abs(modifiedChances.get(i)));
+        int size = outputItemChances.size();
+        for (int i = 0; i < size; ++i) {
+            float chance = outputItemChances.get(i);
+            if (chance < 0.0F) {
+                chances[i] = Math.abs(chance);
             } else {
-                modifiedChances.set(i, Math.max(modifiedChances.get(i) * (i == 0 ? inventory.getPrimaryMod() : inventory.getSecondaryMod()), inventory.getMinOutputChance()));
+                chances[i] = Math.max(chance * (i == 0 ? inventory.getPrimaryMod() : inventory.getSecondaryMod()), inventory.getMinOutputChance());
             }
         }
-        return modifiedChances;
+        return size;
     }
 
     @Override
-    public List<Integer> getInputItemCounts(IMachineInventory inventory) {
+    public void getInputItemCounts(IMachineInventory inventory, int[] counts) {
 
-        if (inputItems.isEmpty()) {
-            return Collections.emptyList();
-        }
-        int[] ret = new int[inventory.inputSlots().size()];
+        Arrays.fill(counts, 0);
         for (ItemStack input : inputItems) {
-            for (int j = 0; j < ret.length; ++j) {
+            for (int j = 0; j < counts.length; ++j) {
                 if (itemsEqual(input, inventory.inputSlots().get(j).getItemStack())) {
-                    ret[j] = input.getCount();
+                    counts[j] = input.getCount();
                     break;
                 }
             }
         }
-        return IntStream.of(ret).boxed().collect(Collectors.toList());
-
         // Code below is SIMPLE implementation, for reference. Used for TRIVIAL cases where ingredient order is guaranteed.
-        //        if (inputItems.isEmpty()) {
-        //            return Collections.emptyList();
-        //        }
-        //        ArrayList<Integer> ret = new ArrayList<>(inputItems.size());
-        //        for (ItemStack input : inputItems) {
-        //            ret.add(input.getCount());
+        //        Arrays.fill(counts, 0);
+        //        for (int i = 0; i < inputItems.size() && i < counts.length; ++i) {
+        //            counts[i] = inputItems.get(i).getCount();
         //        }
-        //        return ret;
     }
 
     @Override
-    public List<Integer> getInputFluidCounts(IMachineInventory inventory) {
+    public void getInputFluidCounts(IMachineInventory inventory, int[] counts) {
 
-        if (inputFluids.isEmpty()) {
-            return Collections.emptyList();
-        }
-        int[] ret = new int[inventory.inputTanks().size()];
+        Arrays.fill(counts, 0);
         for (FluidStack input : inputFluids) {
-            for (int j = 0; j < ret.length; ++j) {
+            for (int j = 0; j < counts.length; ++j) {
                 if (fluidsEqual(input, inventory.inputTanks().get(j).getFluidStack())) {
-                    ret[j] = input.getAmount();
+                    counts[j] = input.getAmount();
                     break;
                 }
             }
         }
-        return IntStream.of(ret).boxed().collect(Collectors.toList());
-
         // Code below is SIMPLE implementation, for reference. Used for TRIVIAL cases where ingredient order is guaranteed.
-        //        if (inputFluids.isEmpty()) {
-        //            return Collections.emptyList();
-        //        }
-        //        ArrayList<Integer> ret = new ArrayList<>(inputFluids.size());
-        //        for (FluidStack input : inputFluids) {
-        //            ret.add(input.getAmount());
+        //        Arrays.fill(counts, 0);
+        //        for (int i = 0; i < inputFluids.size() && i < counts.length; ++i) {
+        //            counts[i] = inputFluids.get(i).getAmount();
         //        }
-        //        return ret;
     }
 
     @Override
@@ -6,13 +6,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
-import static cofh.core.util.helpers.ItemHelper.itemsEqual;
 
 public abstract class CatalyzedMachineRecipe extends BaseMachineRecipe {
 
@@ -41,52 +35,67 @@ public abstract class CatalyzedMachineRecipe extends BaseMachineRecipe {
      * This shouldn't ever cause problems because you're relying on this method call and not hacking around in the recipe, right? ;)
      */
     @Override
-    public List<Float> getOutputItemChances(IMachineInventory inventory) {
-
-        ArrayList<Float> modifiedChances = new ArrayList<>(outputItemChances);
+    public int getOutputItemChances(IMachineInventory inventory, float[] chances) {
 
         // Catalyst Logic
         if (catalyzable && inventory.inputSlots().size() > catalystSlot) {
             IRecipeCatalyst catalyst = getCatalyst(inventory.inputSlots().get(catalystSlot).getItemStack());
             if (catalyst == null) {
-                return super.getOutputItemChances(inventory);
+                return super.getOutputItemChances(inventory, chances);
             }
-            for (int i = 0; i < modifiedChances.size(); ++i) {
-                if (modifiedChances.get(i) < 0.0F) {
-                    modifiedChances.set(i, Math.abs(modifiedChances.get(i)));
+            int size = outputItemChances.size();
+            for (int i = 0; i < size; ++i) {
+                float chance = outputItemChances.get(i);
+                if (chance < 0.0F) {
+                    chances[i] = Math.abs(chance);
                 } else {
-                    modifiedChances.set(i, Math.max(modifiedChances.get(i) * (i == 0 ? catalyst.getPrimaryMod() * inventory.getPrimaryMod() : catalyst.getSecondaryMod() * inventory.getSecondaryMod()), Math.max(catalyst.getMinOutputChance(), inventory.getMinOutputChance())));
+                    chances[i] = Math.max(chance * (i == 0 ? catalyst.getPrimaryMod() * inventory.getPrimaryMod() : catalyst.getSecondaryMod() * inventory.getSecondaryMod()), Math.max(catalyst.getMinOutputChance(), inventory.getMinOutputChance()));
                 }
             }
-            return modifiedChances;
+            return size;
         }
-        return super.getOutputItemChances(inventory);
+        return super.getOutputItemChances(inventory, chances);
     }
 
     @Override
-    public List<Integer> getInputItemCounts(IMachineInventory inventory) {
+    public void getInputItemCounts(IMachineInventory inventory, int[] counts) {
+
+        super.getInputItemCounts(inventory, counts);
+        getCatalystItemCount(inventory, counts);
+    }
+
+    protected void getCatalystItemCount(IMachineInventory inventory, int[] counts) {
 
-        if (inputItems.isEmpty()) {
-            return Collections.emptyList();
+        if (counts.length > catalystSlot && getCatalystUses(inventory, 1) > 0) {
+            counts[catalystSlot] = 1;
         }
-        if (catalyzable && inventory.inputSlots().size() > catalystSlot) {
-            int[] ret = new int[inventory.inputSlots().size()];
-            for (ItemStack input : inputItems) {
-                for (int j = 0; j < ret.length; ++j) {
-                    if (itemsEqual(input, inventory.inputSlots().get(j).getItemStack())) {
-                        ret[j] = input.getCount();
-                        break;
-                    }
-                }
-            }
-            // Catalyst Logic
-            IRecipeCatalyst catalyst = getCatalyst(inventory.inputSlots().get(catalystSlot).getItemStack());
-            if (catalyst != null && MathHelper.RANDOM.nextFloat() < catalyst.getUseChance() * inventory.getUseChance()) {
-                ret[catalystSlot] = 1;
+    }
+
+    @Override
+    public int getCatalystSlot() {
+
+        return catalyzable ? catalystSlot : -1;
+    }
+
+    @Override
+    public int getCatalystUses(IMachineInventory inventory, int operations) {
+
+        // Catalyst Logic
+        if (inputItems.isEmpty() || !catalyzable || inventory.inputSlots().size() <= catalystSlot) {
+            return 0;
+        }
+        IRecipeCatalyst catalyst = getCatalyst(inventory.inputSlots().get(catalystSlot).getItemStack());
+        if (catalyst == null) {
+            return 0;
+        }
+        float useChance = catalyst.getUseChance() * inventory.getUseChance();
+        int uses = 0;
+        for (int i = 0; i < operations; ++i) {
+            if (MathHelper.RANDOM.nextFloat() < useChance) {
+                ++uses;
             }
-            return IntStream.of(ret).boxed().collect(Collectors.toList());
         }
-        return super.getInputItemCounts(inventory);
+        return uses;
     }
 
     @Override
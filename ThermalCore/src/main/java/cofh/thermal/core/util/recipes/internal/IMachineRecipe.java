@@ -5,7 +5,11 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public interface IMachineRecipe {
 
@@ -17,15 +21,54 @@ public interface IMachineRecipe {
 
     List<FluidStack> getOutputFluids(IMachineInventory inventory);
 
-    List<Float> getOutputItemChances(IMachineInventory inventory);
+    /**
+     * Writes the modified output chances into the supplied buffer, which must be at least as long as the output item list.
+     *
+     * @return The number of chances written.
+     */
+    int getOutputItemChances(IMachineInventory inventory, float[] chances);
+
+    /**
+     * Writes the count consumed from each input slot into the supplied buffer, which is sized to the inventory's input slots.
+     * Slots which are not consumed are set to 0.
+     */
+    void getInputItemCounts(IMachineInventory inventory, int[] counts);
+
+    /**
+     * Writes the amount consumed from each input tank into the supplied buffer, which is sized to the inventory's input tanks.
+     * Tanks which are not consumed are set to 0.
+     */
+    void getInputFluidCounts(IMachineInventory inventory, int[] counts);
+
+    /**
+     * Writes both item and fluid counts at once; recipes which have to match items and fluids together should override this.
+     *
+     * @return FALSE if the inventory cannot satisfy the recipe - in which case both buffers are cleared.
+     */
+    default boolean getInputItemAndFluidCounts(IMachineInventory inventory, int[] itemCounts, int[] fluidCounts) {
+
+        getInputItemCounts(inventory, itemCounts);
+        getInputFluidCounts(inventory, fluidCounts);
+        return true;
+    }
 
-    List<Integer> getInputItemCounts(IMachineInventory inventory);
+    /**
+     * @return The input slot holding this recipe's catalyst, or -1. Catalyst use is rolled per operation, so this slot
+     * never limits how many operations the inputs allow.
+     */
+    default int getCatalystSlot() {
 
-    List<Integer> getInputFluidCounts(IMachineInventory inventory);
+        return -1;
+    }
 
-    default Pair<List<Integer>, List<Integer>> getInputItemAndFluidCounts(IMachineInventory inventory) {
+    /**
+     * Rolls catalyst use once for each of the given number of operations.
+     *
+     * @return The number of catalyst items consumed.
+     */
+    default int getCatalystUses(IMachineInventory inventory, int operations) {
 
-        return Pair.of(getInputItemCounts(inventory), getInputFluidCounts(inventory));
+        return 0;
     }
 
     int getEnergy(IMachineInventory inventory);
@@ -34,4 +77,40 @@ public interface IMachineRecipe {
 
     int getMinTicks();
 
+    // region LIST HELPERS
+    default List<Float> getOutputItemChances(IMachineInventory inventory) {
+
+        float[] chances = new float[getOutputItems(inventory).size()];
+        int size = getOutputItemChances(inventory, chances);
+        ArrayList<Float> ret = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            ret.add(chances[i]);
+        }
+        return ret;
+    }
+
+    default List<Integer> getInputItemCounts(IMachineInventory inventory) {
+
+        int[] counts = new int[inventory.inputSlots().size()];
+        getInputItemCounts(inventory, counts);
+        return IntStream.of(counts).boxed().collect(Collectors.toList());
+    }
+
+    default List<Integer> getInputFluidCounts(IMachineInventory inventory) {
+
+        int[] counts = new int[inventory.inputTanks().size()];
+        getInputFluidCounts(inventory, counts);
+        return IntStream.of(counts).boxed().collect(Collectors.toList());
+    }
+
+    default Pair<List<Integer>, List<Integer>> getInputItemAndFluidCounts(IMachineInventory inventory) {
+
+        int[] itemCounts = new int[inventory.inputSlots().size()];
+        int[] fluidCounts = new int[inventory.inputTanks().size()];
+        if (!getInputItemAndFluidCounts(inventory, itemCounts, fluidCounts)) {
+            return Pair.of(Collections.emptyList(), Collections.emptyList());
+        }
+        return Pair.of(IntStream.of(itemCounts).boxed().collect(Collectors.toList()), IntStream.of(fluidCounts).boxed().collect(Collectors.toList()));
+    }
+    // endregion
 }
@@ -5,8 +5,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -21,31 +20,23 @@ public class SimpleMachineRecipe extends BaseMachineRecipe {
 
     // region IMachineRecipe
     @Override
-    public List<Integer> getInputItemCounts(IMachineInventory inventory) {
+    public void getInputItemCounts(IMachineInventory inventory, int[] counts) {
 
         // Ingredient order is guaranteed.
-        if (inputItems.isEmpty()) {
-            return Collections.emptyList();
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < inputItems.size() && i < counts.length; ++i) {
+            counts[i] = inputItems.get(i).getCount();
         }
-        ArrayList<Integer> ret = new ArrayList<>(inputItems.size());
-        for (ItemStack input : inputItems) {
-            ret.add(input.getCount());
-        }
-        return ret;
     }
 
     @Override
-    public List<Integer> getInputFluidCounts(IMachineInventory inventory) {
+    public void getInputFluidCounts(IMachineInventory inventory, int[] counts) {
 
         // Ingredient order is guaranteed.
-        if (inputFluids.isEmpty()) {
-            return Collections.emptyList();
-        }
-        ArrayList<Integer> ret = new ArrayList<>(inputFluids.size());
-        for (FluidStack input : inputFluids) {
-            ret.add(input.getAmount());
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < inputFluids.size() && i < counts.length; ++i) {
+            counts[i] = inputFluids.get(i).getAmount();
         }
-        return ret;
     }
     // endregion
 }
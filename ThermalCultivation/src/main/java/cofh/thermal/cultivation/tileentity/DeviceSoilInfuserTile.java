@@ -2,6 +2,7 @@ package cofh.thermal.cultivation.tileentity;
 
 import cofh.core.energy.EnergyStorageCoFH;
 import cofh.core.inventory.ItemStorageCoFH;
+import cofh.core.network.GuiSync;
 import cofh.core.util.helpers.EnergyHelper;
 import cofh.thermal.core.block.SoilBlock;
 import cofh.thermal.core.tileentity.ThermalTileBase;
@@ -11,7 +12,6 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.energy.CapabilityEnergy;
@@ -122,25 +122,13 @@ public class DeviceSoilInfuserTile extends ThermalTileBase implements ITickableT
 
     // region NETWORK
     @Override
-    public PacketBuffer getGuiPacket(PacketBuffer buffer) {
+    protected void initGuiSync(GuiSync sync) {
 
-        super.getGuiPacket(buffer);
+        super.initGuiSync(sync);
 
-        buffer.writeInt(process);
-        buffer.writeInt(processMax);
-        buffer.writeInt(processTick);
-
-        return buffer;
-    }
-
-    @Override
-    public void handleGuiPacket(PacketBuffer buffer) {
-
-        super.handleGuiPacket(buffer);
-
-        process = buffer.readInt();
-        processMax = buffer.readInt();
-        processTick = buffer.readInt();
+        sync.addInt(() -> process, value -> process = value, true);
+        sync.addInt(() -> processMax, value -> processMax = value);
+        sync.addInt(() -> processTick, value -> processTick = value);
     }
     // endregion
 
@@ -1,6 +1,7 @@
 package cofh.thermal.expansion.tileentity.device;
 
 import cofh.core.fluid.FluidStorageCoFH;
+import cofh.core.network.GuiSync;
 import cofh.core.util.helpers.FluidHelper;
 import cofh.core.util.helpers.MathHelper;
 import cofh.thermal.core.tileentity.ReconfigurableTile4Way;
@@ -13,6 +14,8 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.util.Direction;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.templates.EmptyFluidHandler;
 
 import javax.annotation.Nullable;
 
@@ -67,24 +70,34 @@ public class DeviceFluidBufferTile extends ReconfigurableTile4Way implements ITi
     }
 
     @Override
-    protected void transferInput() {
+    protected boolean transferInput() {
 
         if (!transferControl.getTransferIn()) {
-            return;
+            return false;
         }
         int newTracker = inputTracker;
         boolean updateTracker = false;
+        boolean transferred = false;
 
         for (int i = inputTracker + 1; i <= inputTracker + 6; ++i) {
             Direction side = DIRECTIONS[i % 6];
-            if (reconfigControl.getSideConfig(side).isInput()) {
+            if (reconfigControl.getSideConfig(side).isInput() && !inputBackoff.skip(side)) {
+                IFluidHandler handler = adjFluidCaps.get(side).orElse(EmptyFluidHandler.INSTANCE);
+                boolean attempted = false;
+                boolean sideTransferred = false;
                 for (FluidStorageCoFH tank : inputTanks()) {
                     if (tank.getSpace() > 0) {
-                        if (FluidHelper.extractFromAdjacent(this, tank, Math.min(getInputFluidAmount(), tank.getSpace()), side)) {
+                        attempted = true;
+                        if (FluidHelper.extractFromHandler(handler, tank, Math.min(getInputFluidAmount(), tank.getSpace()))) {
+                            sideTransferred = true;
                             break;
                         }
                     }
                 }
+                if (attempted) {
+                    inputBackoff.update(side, sideTransferred);
+                }
+                transferred |= sideTransferred;
                 if (!updateTracker) {
                     newTracker = side.ordinal();
                     updateTracker = true;
@@ -92,25 +105,38 @@ public class DeviceFluidBufferTile extends ReconfigurableTile4Way implements ITi
             }
         }
         inputTracker = newTracker;
+        return transferred;
     }
 
     @Override
-    protected void transferOutput() {
+    protected boolean transferOutput() {
 
         if (!transferControl.getTransferOut()) {
-            return;
+            return false;
         }
         int newTracker = outputTracker;
         boolean updateTracker = false;
+        boolean transferred = false;
 
         for (int i = outputTracker + 1; i <= outputTracker + 6; ++i) {
             Direction side = DIRECTIONS[i % 6];
-            if (reconfigControl.getSideConfig(side).isOutput()) {
+            if (reconfigControl.getSideConfig(side).isOutput() && !outputBackoff.skip(side)) {
+                IFluidHandler handler = adjFluidCaps.get(side).orElse(EmptyFluidHandler.INSTANCE);
+                boolean attempted = false;
+                boolean sideTransferred = false;
                 for (int j = outputTanks().size(); j-- > 0; ) {
-                    if (FluidHelper.insertIntoAdjacent(this, outputTanks().get(j), getOutputFluidAmount(), side)) {
-                        break;
+                    if (!outputTanks().get(j).isEmpty()) {
+                        attempted = true;
+                        if (FluidHelper.insertIntoHandler(handler, outputTanks().get(j), getOutputFluidAmount())) {
+                            sideTransferred = true;
+                            break;
+                        }
                     }
                 }
+                if (attempted) {
+                    outputBackoff.update(side, sideTransferred);
+                }
+                transferred |= sideTransferred;
                 if (!updateTracker) {
                     newTracker = side.ordinal();
                     updateTracker = true;
@@ -118,6 +144,7 @@ public class DeviceFluidBufferTile extends ReconfigurableTile4Way implements ITi
             }
         }
         outputTracker = newTracker;
+        return transferred;
     }
 
     @Override
@@ -145,14 +172,12 @@ public class DeviceFluidBufferTile extends ReconfigurableTile4Way implements ITi
     }
 
     @Override
-    public PacketBuffer getGuiPacket(PacketBuffer buffer) {
+    protected void initGuiSync(GuiSync sync) {
 
-        super.getGuiPacket(buffer);
-
-        buffer.writeInt(amountInput);
-        buffer.writeInt(amountOutput);
+        super.initGuiSync(sync);
 
-        return buffer;
+        sync.addInt(() -> amountInput, value -> amountInput = value);
+        sync.addInt(() -> amountOutput, value -> amountOutput = value);
     }
 
     @Override
@@ -163,15 +188,6 @@ public class DeviceFluidBufferTile extends ReconfigurableTile4Way implements ITi
         amountInput = MathHelper.clamp(buffer.readInt(), 0, XFER_MAX);
         amountOutput = MathHelper.clamp(buffer.readInt(), 0, XFER_MAX);
     }
-
-    @Override
-    public void handleGuiPacket(PacketBuffer buffer) {
-
-        super.handleGuiPacket(buffer);
-
-        amountInput = buffer.readInt();
-        amountOutput = buffer.readInt();
-    }
     // endregion
 
     // region NBT
@@ -1,6 +1,7 @@
 package cofh.thermal.expansion.tileentity.device;
 
 import cofh.core.inventory.ItemStorageCoFH;
+import cofh.core.network.GuiSync;
 import cofh.core.util.helpers.InventoryHelper;
 import cofh.core.util.helpers.MathHelper;
 import cofh.thermal.core.tileentity.ReconfigurableTile4Way;
@@ -13,6 +14,8 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.util.Direction;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.wrapper.EmptyHandler;
 
 import javax.annotation.Nullable;
 
@@ -65,24 +68,34 @@ public class DeviceItemBufferTile extends ReconfigurableTile4Way implements ITic
     }
 
     @Override
-    protected void transferInput() {
+    protected boolean transferInput() {
 
         if (!transferControl.getTransferIn()) {
-            return;
+            return false;
         }
         int newTracker = inputTracker;
         boolean updateTracker = false;
+        boolean transferred = false;
 
         for (int i = inputTracker + 1; i <= inputTracker + 6; ++i) {
             Direction side = DIRECTIONS[i % 6];
-            if (reconfigControl.getSideConfig(side).isInput()) {
+            if (reconfigControl.getSideConfig(side).isInput() && !inputBackoff.skip(side)) {
+                IItemHandler handler = adjItemCaps.get(side).orElse(EmptyHandler.INSTANCE);
+                boolean attempted = false;
+                boolean sideTransferred = false;
                 for (ItemStorageCoFH slot : inputSlots()) {
                     if (slot.getSpace() > 0) {
-                        if (InventoryHelper.extractFromAdjacent(this, slot, Math.min(getInputItemAmount(), slot.getSpace()), side)) {
+                        attempted = true;
+                        if (InventoryHelper.extractFromHandler(handler, slot, Math.min(getInputItemAmount(), slot.getSpace()))) {
+                            sideTransferred = true;
                             break;
                         }
                     }
                 }
+                if (attempted) {
+                    inputBackoff.update(side, sideTransferred);
+                }
+                transferred |= sideTransferred;
                 if (!updateTracker) {
                     newTracker = side.ordinal();
                     updateTracker = true;
@@ -90,25 +103,38 @@ public class DeviceItemBufferTile extends ReconfigurableTile4Way implements ITic
             }
         }
         inputTracker = newTracker;
+        return transferred;
     }
 
     @Override
-    protected void transferOutput() {
+    protected boolean transferOutput() {
 
         if (!transferControl.getTransferOut()) {
-            return;
+            return false;
         }
         int newTracker = outputTracker;
         boolean updateTracker = false;
+        boolean transferred = false;
 
         for (int i = outputTracker + 1; i <= outputTracker + 6; ++i) {
             Direction side = DIRECTIONS[i % 6];
-            if (reconfigControl.getSideConfig(side).isOutput()) {
+            if (reconfigControl.getSideConfig(side).isOutput() && !outputBackoff.skip(side)) {
+                IItemHandler handler = adjItemCaps.get(side).orElse(EmptyHandler.INSTANCE);
+                boolean attempted = false;
+                boolean sideTransferred = false;
                 for (int j = outputSlots().size(); j-- > 0; ) {
-                    if (InventoryHelper.insertIntoAdjacent(this, outputSlots().get(j), getOutputItemAmount(), side)) {
-                        break;
+                    if (!outputSlots().get(j).isEmpty()) {
+                        attempted = true;
+                        if (InventoryHelper.insertIntoHandler(handler, outputSlots().get(j), getOutputItemAmount())) {
+                            sideTransferred = true;
+                            break;
+                        }
                     }
                 }
+                if (attempted) {
+                    outputBackoff.update(side, sideTransferred);
+                }
+                transferred |= sideTransferred;
                 if (!updateTracker) {
                     newTracker = side.ordinal();
                     updateTracker = true;
@@ -116,6 +142,7 @@ public class DeviceItemBufferTile extends ReconfigurableTile4Way implements ITic
             }
         }
         outputTracker = newTracker;
+        return transferred;
     }
 
     @Override
@@ -143,14 +170,12 @@ public class DeviceItemBufferTile extends ReconfigurableTile4Way implements ITic
     }
 
     @Override
-    public PacketBuffer getGuiPacket(PacketBuffer buffer) {
+    protected void initGuiSync(GuiSync sync) {
 
-        super.getGuiPacket(buffer);
-
-        buffer.writeByte(amountInput);
-        buffer.writeByte(amountOutput);
+        super.initGuiSync(sync);
 
-        return buffer;
+        sync.addInt(() -> amountInput, value -> amountInput = value);
+        sync.addInt(() -> amountOutput, value -> amountOutput = value);
     }
 
     @Override
@@ -161,15 +186,6 @@ public class DeviceItemBufferTile extends ReconfigurableTile4Way implements ITic
         amountInput = MathHelper.clamp(buffer.readByte(), 0, XFER_MAX);
         amountOutput = MathHelper.clamp(buffer.readByte(), 0, XFER_MAX);
     }
-
-    @Override
-    public void handleGuiPacket(PacketBuffer buffer) {
-
-        super.handleGuiPacket(buffer);
-
-        amountInput = buffer.readByte();
-        amountOutput = buffer.readByte();
-    }
     // endregion
 
     // region NBT
@@ -44,7 +44,7 @@ public class DynamoCompressionTile extends DynamoTileBase {
     @Override
     protected boolean canProcessStart() {
 
-        return CompressionFuelManager.instance().getEnergy(fuelTank.getFluidStack()) > 0 && fuelTank.getAmount() >= FLUID_FUEL_AMOUNT;
+        return getFuelEnergy() > 0 && fuelTank.getAmount() >= FLUID_FUEL_AMOUNT;
     }
 
     @Override
@@ -53,10 +53,22 @@ public class DynamoCompressionTile extends DynamoTileBase {
         if (cacheRenderFluid()) {
             TileStatePacket.sendToClient(this);
         }
-        fuel += fuelMax = Math.round(CompressionFuelManager.instance().getEnergy(fuelTank.getFluidStack()) * energyMod);
+        fuel += fuelMax = Math.round(getFuelEnergy() * energyMod);
         fuelTank.modify(-FLUID_FUEL_AMOUNT);
     }
 
+    @Override
+    protected Object getFuelKey() {
+
+        return fuelTank.isEmpty() ? null : fuelTank.getFluidStack();
+    }
+
+    @Override
+    protected int resolveFuelEnergy() {
+
+        return CompressionFuelManager.instance().getEnergy(fuelTank.getFluidStack());
+    }
+
     @Override
     protected boolean cacheRenderFluid() {
 
@@ -44,7 +44,7 @@ public class DynamoMagmaticTile extends DynamoTileBase {
     @Override
     protected boolean canProcessStart() {
 
-        return MagmaticFuelManager.instance().getEnergy(fuelTank.getFluidStack()) > 0 && fuelTank.getAmount() >= FLUID_FUEL_AMOUNT;
+        return getFuelEnergy() > 0 && fuelTank.getAmount() >= FLUID_FUEL_AMOUNT;
     }
 
     @Override
@@ -53,10 +53,22 @@ public class DynamoMagmaticTile extends DynamoTileBase {
         if (cacheRenderFluid()) {
             TileStatePacket.sendToClient(this);
         }
-        fuel += fuelMax = Math.round(MagmaticFuelManager.instance().getEnergy(fuelTank.getFluidStack()) * energyMod);
+        fuel += fuelMax = Math.round(getFuelEnergy() * energyMod);
         fuelTank.modify(-FLUID_FUEL_AMOUNT);
     }
 
+    @Override
+    protected Object getFuelKey() {
+
+        return fuelTank.isEmpty() ? null : fuelTank.getFluidStack();
+    }
+
+    @Override
+    protected int resolveFuelEnergy() {
+
+        return MagmaticFuelManager.instance().getEnergy(fuelTank.getFluidStack());
+    }
+
     @Override
     protected boolean cacheRenderFluid() {
 
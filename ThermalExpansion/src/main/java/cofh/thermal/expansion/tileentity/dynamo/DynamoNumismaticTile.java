@@ -32,15 +32,27 @@ public class DynamoNumismaticTile extends DynamoTileBase {
     @Override
     protected boolean canProcessStart() {
 
-        return NumismaticFuelManager.instance().getEnergy(fuelSlot.getItemStack()) > 0;
+        return getFuelEnergy() > 0;
     }
 
     @Override
     protected void processStart() {
 
-        fuel += fuelMax = Math.round(NumismaticFuelManager.instance().getEnergy(fuelSlot.getItemStack()) * energyMod);
+        fuel += fuelMax = Math.round(getFuelEnergy() * energyMod);
         fuelSlot.consume(1);
     }
+
+    @Override
+    protected Object getFuelKey() {
+
+        return fuelSlot.isEmpty() ? null : fuelSlot.getItemStack();
+    }
+
+    @Override
+    protected int resolveFuelEnergy() {
+
+        return NumismaticFuelManager.instance().getEnergy(fuelSlot.getItemStack());
+    }
     // endregion
 
     @Nullable
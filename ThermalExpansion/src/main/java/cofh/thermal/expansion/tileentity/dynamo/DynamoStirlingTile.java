@@ -32,15 +32,27 @@ public class DynamoStirlingTile extends DynamoTileBase {
     @Override
     protected boolean canProcessStart() {
 
-        return StirlingFuelManager.instance().getEnergy(fuelSlot.getItemStack()) > 0;
+        return getFuelEnergy() > 0;
     }
 
     @Override
     protected void processStart() {
 
-        fuel += fuelMax = Math.round(StirlingFuelManager.instance().getEnergy(fuelSlot.getItemStack()) * energyMod);
+        fuel += fuelMax = Math.round(getFuelEnergy() * energyMod);
         fuelSlot.consume(1);
     }
+
+    @Override
+    protected Object getFuelKey() {
+
+        return fuelSlot.isEmpty() ? null : fuelSlot.getItemStack();
+    }
+
+    @Override
+    protected int resolveFuelEnergy() {
+
+        return StirlingFuelManager.instance().getEnergy(fuelSlot.getItemStack());
+    }
     // endregion
 
     @Nullable
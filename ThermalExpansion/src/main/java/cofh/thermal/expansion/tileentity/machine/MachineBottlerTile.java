@@ -42,10 +42,12 @@ public class MachineBottlerTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = BottlerRecipeManager.instance().getRecipe(this);
+        if (updateInputFingerprint()) {
+            curRecipe = BottlerRecipeManager.instance().getRecipe(this);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
-            fluidInputCounts = curRecipe.getInputFluidCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
+            curRecipe.getInputFluidCounts(this, fluidInputCounts);
         }
         return curRecipe != null;
     }
@@ -44,10 +44,12 @@ public class MachineBrewerTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = BrewerRecipeManager.instance().getRecipe(this);
+        if (updateInputFingerprint()) {
+            curRecipe = BrewerRecipeManager.instance().getRecipe(this);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
-            fluidInputCounts = curRecipe.getInputFluidCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
+            curRecipe.getInputFluidCounts(this, fluidInputCounts);
         }
         return curRecipe != null;
     }
@@ -77,7 +79,7 @@ public class MachineBrewerTile extends MachineTileProcess {
         if (!cacheRecipe()) {
             return false;
         }
-        return inputSlot.getCount() >= itemInputCounts.get(0) && inputTank.getAmount() >= fluidInputCounts.get(0);
+        return inputSlot.getCount() >= itemInputCounts[0] && inputTank.getAmount() >= fluidInputCounts[0];
     }
 
     @Override
@@ -42,9 +42,11 @@ public class MachineCentrifugeTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = CentrifugeRecipeManager.instance().getRecipe(this);
+        if (updateInputFingerprint()) {
+            curRecipe = CentrifugeRecipeManager.instance().getRecipe(this);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
         }
         return curRecipe != null;
     }
@@ -75,7 +77,7 @@ public class MachineCentrifugeTile extends MachineTileProcess {
         if (!cacheRecipe()) {
             return false;
         }
-        return inputSlot.getCount() >= itemInputCounts.get(0);
+        return inputSlot.getCount() >= itemInputCounts[0];
     }
     // endregion
 }
@@ -43,10 +43,12 @@ public class MachineChillerTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = ChillerRecipeManager.instance().getRecipe(this);
+        if (updateInputFingerprint()) {
+            curRecipe = ChillerRecipeManager.instance().getRecipe(this);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
-            fluidInputCounts = curRecipe.getInputFluidCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
+            curRecipe.getInputFluidCounts(this, fluidInputCounts);
         }
         return curRecipe != null;
     }
@@ -66,12 +68,12 @@ public class MachineChillerTile extends MachineTileProcess {
     protected void resolveInputs() {
 
         // Input Items
-        if (!itemInputCounts.isEmpty() && !inputSlot.getItemStack().getItem().isIn(MACHINE_CASTS)) {
-            inputSlot.modify(-itemInputCounts.get(0));
+        if (itemInputCounts[0] > 0 && !inputSlot.getItemStack().getItem().isIn(MACHINE_CASTS)) {
+            inputSlot.modify(-itemInputCounts[0]);
         }
         // Input Fluids
-        for (int i = 0; i < fluidInputCounts.size(); ++i) {
-            inputTanks().get(i).modify(-fluidInputCounts.get(i));
+        for (int i = 0; i < fluidInputCounts.length; ++i) {
+            inputTanks().get(i).modify(-fluidInputCounts[i]);
         }
     }
 
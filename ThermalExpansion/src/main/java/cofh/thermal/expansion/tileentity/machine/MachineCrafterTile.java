@@ -3,6 +3,7 @@ package cofh.thermal.expansion.tileentity.machine;
 import cofh.core.fluid.FluidStorageCoFH;
 import cofh.core.inventory.FalseCraftingInventory;
 import cofh.core.inventory.ItemStorageCoFH;
+import cofh.core.network.GuiSync;
 import cofh.core.util.Utils;
 import cofh.core.util.helpers.FluidHelper;
 import cofh.thermal.core.common.ThermalConfig;
@@ -18,15 +19,12 @@ import net.minecraft.inventory.container.Container;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.ICraftingRecipe;
 import net.minecraft.item.crafting.IRecipe;
-import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.fluids.FluidStack;
-import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nullable;
-import java.util.List;
 import java.util.Optional;
 
 import static cofh.core.util.StorageGroup.*;
@@ -84,7 +82,7 @@ public class MachineCrafterTile extends MachineTileProcess {
             craftMatrix.setInventorySlotContents(i, inventory.get(SLOT_CRAFTING_START + i));
         }
         ICraftingRecipe craftRecipe;
-        Optional<ICraftingRecipe> possibleRecipe = world.getRecipeManager().getRecipe(IRecipeType.CRAFTING, craftMatrix, world);
+        Optional<ICraftingRecipe> possibleRecipe = CrafterRecipeManager.instance().getCraftingRecipe(craftMatrix, world);
         if (possibleRecipe.isPresent()) {
             craftRecipe = possibleRecipe.get();
             craftResult.setInventorySlotContents(0, craftRecipe.getCraftingResult(craftMatrix));
@@ -99,6 +97,7 @@ public class MachineCrafterTile extends MachineTileProcess {
         curRecipe = CrafterRecipeManager.instance().getRecipe(craftRecipe);
         resultSlot.setItemStack(craftResult.getStackInSlot(0));
         clearRecipeChanges();
+        wake();
     }
 
     public void markRecipeChanges() {
@@ -144,12 +143,7 @@ public class MachineCrafterTile extends MachineTileProcess {
     protected boolean cacheRecipe() {
 
         curRecipe = CrafterRecipeManager.instance().getRecipe(craftResult.getRecipeUsed());
-        if (curRecipe != null) {
-            Pair<List<Integer>, List<Integer>> inputCounts = curRecipe.getInputItemAndFluidCounts(this);
-            itemInputCounts = inputCounts.getLeft();
-            fluidInputCounts = inputCounts.getRight();
-        }
-        validRecipe = !(itemInputCounts.isEmpty() && fluidInputCounts.isEmpty());
+        validRecipe = curRecipe != null && curRecipe.getInputItemAndFluidCounts(this, itemInputCounts, fluidInputCounts);
         return validRecipe;
     }
 
@@ -160,7 +154,7 @@ public class MachineCrafterTile extends MachineTileProcess {
             return false;
         }
         FluidStack prevFluid = renderFluid;
-        if (!fluidInputCounts.isEmpty() && fluidInputCounts.get(0) > 0) {
+        if (fluidInputCounts[0] > 0) {
             renderFluid = new FluidStack(inputTank.getFluidStack(), BUCKET_VOLUME);
         } else {
             renderFluid = FluidStack.EMPTY;
@@ -188,16 +182,18 @@ public class MachineCrafterTile extends MachineTileProcess {
     }
 
     @Override
-    public PacketBuffer getGuiPacket(PacketBuffer buffer) {
+    protected void initGuiSync(GuiSync sync) {
 
-        super.getGuiPacket(buffer);
+        super.initGuiSync(sync);
 
-        boolean hasRecipe = craftResult.getRecipeUsed() != null;
-        buffer.writeBoolean(hasRecipe);
-        if (hasRecipe) {
-            buffer.writeResourceLocation(craftResult.getRecipeUsed().getId());
-        }
-        return buffer;
+        sync.addObject(() -> craftResult.getRecipeUsed() == null ? null : craftResult.getRecipeUsed().getId(), id -> {
+            if (id != null && world != null) {
+                Optional<? extends IRecipe<?>> possibleRecipe = world.getRecipeManager().getRecipe(id);
+                possibleRecipe.ifPresent(recipe -> curRecipe = CrafterRecipeManager.instance().getRecipe(recipe));
+            } else {
+                curRecipe = null;
+            }
+        }, PacketBuffer::writeResourceLocation, PacketBuffer::readResourceLocation);
     }
 
     @Override
@@ -210,18 +206,5 @@ public class MachineCrafterTile extends MachineTileProcess {
         }
         setRecipe();
     }
-
-    @Override
-    public void handleGuiPacket(PacketBuffer buffer) {
-
-        super.handleGuiPacket(buffer);
-
-        if (buffer.readBoolean() && world != null) {
-            Optional<? extends IRecipe<?>> possibleRecipe = world.getRecipeManager().getRecipe(buffer.readResourceLocation());
-            possibleRecipe.ifPresent(recipe -> curRecipe = CrafterRecipeManager.instance().getRecipe(recipe));
-        } else {
-            curRecipe = null;
-        }
-    }
     // endregion
 }
@@ -40,9 +40,11 @@ public class MachineCrucibleTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = CrucibleRecipeManager.instance().getRecipe(this);
+        if (updateInputFingerprint()) {
+            curRecipe = CrucibleRecipeManager.instance().getRecipe(this);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
         }
         return curRecipe != null;
     }
@@ -72,7 +74,7 @@ public class MachineCrucibleTile extends MachineTileProcess {
         if (!cacheRecipe()) {
             return false;
         }
-        return inputSlot.getCount() >= itemInputCounts.get(0);
+        return inputSlot.getCount() >= itemInputCounts[0];
     }
 
     @Override
@@ -36,9 +36,11 @@ public class MachineFurnaceTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = FurnaceRecipeManager.instance().getRecipe(this);
+        if (updateInputFingerprint()) {
+            curRecipe = FurnaceRecipeManager.instance().getRecipe(this);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
         }
         return curRecipe != null;
     }
@@ -57,7 +59,7 @@ public class MachineFurnaceTile extends MachineTileProcess {
         if (!cacheRecipe()) {
             return false;
         }
-        return inputSlot.getCount() >= itemInputCounts.get(0);
+        return inputSlot.getCount() >= itemInputCounts[0];
     }
 
     @Override
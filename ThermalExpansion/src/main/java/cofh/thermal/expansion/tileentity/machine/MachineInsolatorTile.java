@@ -51,11 +51,13 @@ public class MachineInsolatorTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = InsolatorRecipeManager.instance().getRecipe(this);
-        curCatalyst = InsolatorRecipeManager.instance().getCatalyst(catalystSlot);
+        if (updateInputFingerprint()) {
+            curRecipe = InsolatorRecipeManager.instance().getRecipe(this);
+            curCatalyst = InsolatorRecipeManager.instance().getCatalyst(catalystSlot);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
-            fluidInputCounts = curRecipe.getInputFluidCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
+            curRecipe.getInputFluidCounts(this, fluidInputCounts);
         }
         return curRecipe != null;
     }
@@ -64,7 +66,7 @@ public class MachineInsolatorTile extends MachineTileProcess {
     protected void resolveInputs() {
 
         // Input Items
-        int primaryCount = itemInputCounts.get(0);
+        int primaryCount = itemInputCounts[0];
         if (recycleFeature) {
             boolean recycled = false;
             ItemStack input = inputSlot.getItemStack();
@@ -81,7 +83,7 @@ public class MachineInsolatorTile extends MachineTileProcess {
         } else {
             inputSlot.modify(-primaryCount);
         }
-        int decrement = itemInputCounts.size() > 1 ? itemInputCounts.get(1) : 0;
+        int decrement = itemInputCounts[1];
         if (decrement > 0) {
             if (catalystSlot.getItemStack().isDamageable()) {
                 if (catalystSlot.getItemStack().attemptDamageItem(decrement, MathHelper.RANDOM, null)) {
@@ -92,8 +94,8 @@ public class MachineInsolatorTile extends MachineTileProcess {
             }
         }
         // Input Fluids
-        if (!fluidInputCounts.isEmpty()) {
-            waterTank.modify(-fluidInputCounts.get(0));
+        if (fluidInputCounts[0] > 0) {
+            waterTank.modify(-fluidInputCounts[0]);
         }
     }
 
@@ -111,7 +113,7 @@ public class MachineInsolatorTile extends MachineTileProcess {
         if (!cacheRecipe()) {
             return false;
         }
-        return inputSlot.getCount() >= itemInputCounts.get(0) && (fluidInputCounts.isEmpty() || waterTank.getAmount() >= fluidInputCounts.get(0));
+        return inputSlot.getCount() >= itemInputCounts[0] && waterTank.getAmount() >= fluidInputCounts[0];
     }
     // endregion
 
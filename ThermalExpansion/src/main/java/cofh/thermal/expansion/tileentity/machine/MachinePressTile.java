@@ -46,9 +46,11 @@ public class MachinePressTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = PressRecipeManager.instance().getRecipe(this);
+        if (updateInputFingerprint()) {
+            curRecipe = PressRecipeManager.instance().getRecipe(this);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
         }
         return curRecipe != null;
     }
@@ -69,10 +71,10 @@ public class MachinePressTile extends MachineTileProcess {
     protected void resolveInputs() {
 
         // Input Items
-        inputSlot.modify(-itemInputCounts.get(0));
+        inputSlot.modify(-itemInputCounts[0]);
 
-        if (itemInputCounts.size() > 1 && !dieSlot.getItemStack().getItem().isIn(MACHINE_DIES)) {
-            dieSlot.modify(-itemInputCounts.get(1));
+        if (itemInputCounts[1] > 0 && !dieSlot.getItemStack().getItem().isIn(MACHINE_DIES)) {
+            dieSlot.modify(-itemInputCounts[1]);
         }
     }
 
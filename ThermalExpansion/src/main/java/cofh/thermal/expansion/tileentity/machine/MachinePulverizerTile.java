@@ -36,10 +36,12 @@ public class MachinePulverizerTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = PulverizerRecipeManager.instance().getRecipe(this);
-        curCatalyst = PulverizerRecipeManager.instance().getCatalyst(catalystSlot);
+        if (updateInputFingerprint()) {
+            curRecipe = PulverizerRecipeManager.instance().getRecipe(this);
+            curCatalyst = PulverizerRecipeManager.instance().getCatalyst(catalystSlot);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
         }
         return curRecipe != null;
     }
@@ -48,9 +50,9 @@ public class MachinePulverizerTile extends MachineTileProcess {
     protected void resolveInputs() {
 
         // Input Items
-        inputSlot.modify(-itemInputCounts.get(0));
+        inputSlot.modify(-itemInputCounts[0]);
 
-        int decrement = itemInputCounts.size() > 1 ? itemInputCounts.get(1) : 0;
+        int decrement = itemInputCounts[1];
         if (decrement > 0) {
             if (catalystSlot.getItemStack().isDamageable()) {
                 if (catalystSlot.getItemStack().attemptDamageItem(decrement, MathHelper.RANDOM, null)) {
@@ -76,7 +78,7 @@ public class MachinePulverizerTile extends MachineTileProcess {
         if (!cacheRecipe()) {
             return false;
         }
-        return inputSlot.getCount() >= itemInputCounts.get(0);
+        return inputSlot.getCount() >= itemInputCounts[0];
     }
     // endregion
 }
@@ -46,9 +46,11 @@ public class MachineRefineryTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = RefineryRecipeManager.instance().getRecipe(this);
+        if (updateInputFingerprint()) {
+            curRecipe = RefineryRecipeManager.instance().getRecipe(this);
+        }
         if (curRecipe != null) {
-            fluidInputCounts = curRecipe.getInputFluidCounts(this);
+            curRecipe.getInputFluidCounts(this, fluidInputCounts);
         }
         return curRecipe != null;
     }
@@ -82,7 +84,7 @@ public class MachineRefineryTile extends MachineTileProcess {
         if (!cacheRecipe()) {
             return false;
         }
-        return inputTank.getAmount() >= fluidInputCounts.get(0);
+        return inputTank.getAmount() >= fluidInputCounts[0];
     }
     // endregion
 }
@@ -33,9 +33,11 @@ public class MachineSawmillTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = SawmillRecipeManager.instance().getRecipe(this);
+        if (updateInputFingerprint()) {
+            curRecipe = SawmillRecipeManager.instance().getRecipe(this);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
         }
         return curRecipe != null;
     }
@@ -54,7 +56,7 @@ public class MachineSawmillTile extends MachineTileProcess {
         if (!cacheRecipe()) {
             return false;
         }
-        return inputSlot.getCount() >= itemInputCounts.get(0);
+        return inputSlot.getCount() >= itemInputCounts[0];
     }
     // endregion
 }
@@ -44,10 +44,12 @@ public class MachineSmelterTile extends MachineTileProcess {
     @Override
     protected boolean cacheRecipe() {
 
-        curRecipe = SmelterRecipeManager.instance().getRecipe(this);
-        curCatalyst = SmelterRecipeManager.instance().getCatalyst(catalystSlot);
+        if (updateInputFingerprint()) {
+            curRecipe = SmelterRecipeManager.instance().getRecipe(this);
+            curCatalyst = SmelterRecipeManager.instance().getCatalyst(catalystSlot);
+        }
         if (curRecipe != null) {
-            itemInputCounts = curRecipe.getInputItemCounts(this);
+            curRecipe.getInputItemCounts(this, itemInputCounts);
         }
         return curRecipe != null;
     }
@@ -57,9 +59,9 @@ public class MachineSmelterTile extends MachineTileProcess {
 
         // Input Items
         for (int i = 0; i < 3; ++i) {
-            inputSlots[i].modify(-itemInputCounts.get(i));
+            inputSlots[i].modify(-itemInputCounts[i]);
         }
-        int decrement = itemInputCounts.size() > 3 ? itemInputCounts.get(3) : 0;
+        int decrement = itemInputCounts[3];
         if (decrement > 0) {
             if (catalystSlot.getItemStack().isDamageable()) {
                 if (catalystSlot.getItemStack().attemptDamageItem(decrement, MathHelper.RANDOM, null)) {
@@ -86,8 +88,8 @@ public class MachineSmelterTile extends MachineTileProcess {
             return false;
         }
         List<? extends ItemStorageCoFH> slotInputs = inputSlots();
-        for (int i = 0; i < slotInputs.size() && i < itemInputCounts.size(); ++i) {
-            int inputCount = itemInputCounts.get(i);
+        for (int i = 0; i < slotInputs.size() && i < itemInputCounts.length; ++i) {
+            int inputCount = itemInputCounts[i];
             if (slotInputs.get(i).getItemStack().getCount() < inputCount) {
                 return false;
             }
@@ -1,6 +1,7 @@
 package cofh.thermal.expansion.util.managers.dynamo;
 
 import cofh.core.inventory.FalseIInventory;
+import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.managers.SingleItemFuelManager;
 import cofh.thermal.core.util.recipes.ThermalFuel;
 import cofh.thermal.core.util.recipes.internal.IDynamoFuel;
@@ -48,5 +49,11 @@ public class LapidaryFuelManager extends SingleItemFuelManager {
             addFuel((ThermalFuel) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return new LapidaryFuelManager();
+    }
     // endregion
 }
@@ -1,6 +1,7 @@
 package cofh.thermal.expansion.util.managers.dynamo;
 
 import cofh.core.inventory.FalseIInventory;
+import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.managers.SingleItemFuelManager;
 import cofh.thermal.core.util.recipes.ThermalFuel;
 import cofh.thermal.core.util.recipes.internal.IDynamoFuel;
@@ -43,6 +44,11 @@ public class StirlingFuelManager extends SingleItemFuelManager {
     @Override
     public boolean validFuel(ItemStack input) {
 
+        return inputFilter.mayAccept(input) && isFuel(input);
+    }
+
+    protected boolean isFuel(ItemStack input) {
+
         if (input.getCapability(CapabilityFluidHandler.FLUID_HANDLER_ITEM_CAPABILITY).isPresent()) {
             return false;
         }
@@ -52,7 +58,7 @@ public class StirlingFuelManager extends SingleItemFuelManager {
     @Override
     protected void clear() {
 
-        fuelMap.clear();
+        super.clear();
         convertedFuels.clear();
     }
 
@@ -90,6 +96,17 @@ public class StirlingFuelManager extends SingleItemFuelManager {
         }
         createConvertedRecipes(recipeManager);
     }
+
+    /**
+     * Refreshes in place, on the thread which publishes. Converting furnace fuels creates a stack of every registered
+     * item and queries burn times, which fires capability and fuel events that third-party handlers expect on the
+     * server thread.
+     */
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return null;
+    }
     // endregion
 
     // region CONVERSION
@@ -105,8 +122,9 @@ public class StirlingFuelManager extends SingleItemFuelManager {
         ItemStack query;
         for (Item item : ForgeRegistries.ITEMS) {
             query = new ItemStack(item);
-            if (getFuel(query) == null && validFuel(query)) {
+            if (getFuel(query) == null && isFuel(query)) {
                 convertedFuels.add(convert(query, getEnergy(query)));
+                inputFilter.addItem(query);
             }
         }
     }
@@ -3,19 +3,20 @@ package cofh.thermal.expansion.util.managers.machine;
 import cofh.core.fluid.IFluidStackAccess;
 import cofh.core.inventory.FalseIInventory;
 import cofh.core.inventory.IItemStackAccess;
-import cofh.core.util.ComparableItemStack;
-import cofh.core.util.helpers.FluidHelper;
 import cofh.thermal.core.ThermalCore;
 import cofh.thermal.core.util.IThermalInventory;
 import cofh.thermal.core.util.managers.AbstractManager;
+import cofh.thermal.core.util.managers.FluidKeyTable;
 import cofh.thermal.core.util.managers.IRecipeManager;
+import cofh.thermal.core.util.managers.InputFilter;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
 import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.core.util.recipes.internal.SimpleMachineRecipe;
 import cofh.thermal.expansion.init.TExpRecipeTypes;
 import cofh.thermal.expansion.util.recipes.machine.BottlerRecipe;
 import cofh.thermal.expansion.util.recipes.machine.BottlerRecipeNBT;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.fluid.FlowingFluid;
 import net.minecraft.fluid.Fluid;
@@ -33,7 +34,6 @@ import java.util.*;
 
 import static cofh.core.util.constants.Constants.*;
 import static cofh.core.util.references.CoreReferences.FLUID_POTION;
-import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
@@ -45,9 +45,9 @@ public class BottlerRecipeManager extends AbstractManager implements IRecipeMana
     protected static boolean defaultBucketRecipes = true;
     protected static boolean defaultPotionRecipes = true;
 
-    protected Map<List<Integer>, IMachineRecipe> recipeMap = new Object2ObjectOpenHashMap<>();
-    protected Set<Fluid> validFluids = new ObjectOpenHashSet<>();
-    protected Set<ComparableItemStack> validItems = new ObjectOpenHashSet<>();
+    protected Long2ObjectMap<IMachineRecipe> recipeMap = new Long2ObjectOpenHashMap<>();
+    protected FluidKeyTable fluidKeys = new FluidKeyTable(false);
+    protected InputFilter inputFilter = new InputFilter();
 
     protected int maxOutputItems;
     protected int maxOutputFluids;
@@ -77,19 +77,19 @@ public class BottlerRecipeManager extends AbstractManager implements IRecipeMana
 
     public boolean validItem(ItemStack item) {
 
-        return validItems.contains(convert(item));
+        return inputFilter.mayAccept(item);
     }
 
     public boolean validFluid(FluidStack fluid) {
 
-        return validFluids.contains(fluid.getFluid());
+        return inputFilter.mayAccept(fluid);
     }
 
     protected void clear() {
 
         recipeMap.clear();
-        validFluids.clear();
-        validItems.clear();
+        fluidKeys.clear();
+        inputFilter.clear();
         convertedRecipes.clear();
     }
 
@@ -101,15 +101,17 @@ public class BottlerRecipeManager extends AbstractManager implements IRecipeMana
         }
         if (inputTanks.isEmpty() || inputTanks.get(0).isEmpty()) {
             ItemStack inputItem = inputSlots.get(0).getItemStack();
-            return recipeMap.get(singletonList(convert(inputItem).hashCode()));
+            return recipeMap.get(packItemFluidKey(itemKey(inputItem), FluidKeyTable.NONE));
         }
         if (inputSlots.isEmpty() || inputSlots.get(0).isEmpty()) {
             FluidStack inputFluid = inputTanks.get(0).getFluidStack();
-            return recipeMap.get(singletonList(FluidHelper.fluidHashcodeNoTag(inputFluid)));
+            int fluidKey = fluidKeys.get(inputFluid);
+            return fluidKey == FluidKeyTable.NONE ? null : recipeMap.get(packItemFluidKey(-1, fluidKey));
         }
         ItemStack inputItem = inputSlots.get(0).getItemStack();
         FluidStack inputFluid = inputTanks.get(0).getFluidStack();
-        return recipeMap.get(asList(convert(inputItem).hashCode(), FluidHelper.fluidHashcodeNoTag(inputFluid)));
+        int fluidKey = fluidKeys.get(inputFluid);
+        return fluidKey == FluidKeyTable.NONE ? null : recipeMap.get(packItemFluidKey(itemKey(inputItem), fluidKey));
     }
 
     protected IMachineRecipe addRecipe(int energy, float experience, int minTicks, List<ItemStack> inputItems, List<FluidStack> inputFluids, List<ItemStack> outputItems, List<Float> chance, List<FluidStack> outputFluids) {
@@ -130,12 +132,12 @@ public class BottlerRecipeManager extends AbstractManager implements IRecipeMana
                 return null;
             }
         }
-        validItems.add(convert(inputItem));
-        validFluids.add(inputFluid.getFluid());
+        inputFilter.addItem(inputItem);
+        inputFilter.addFluid(inputFluid);
         energy = (int) (energy * getDefaultScale());
 
         SimpleMachineRecipe recipe = new SimpleMachineRecipe(energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
-        recipeMap.put(asList(convert(inputItem).hashCode(), FluidHelper.fluidHashcodeNoTag(inputFluid)), recipe);
+        recipeMap.put(packItemFluidKey(itemKey(inputItem), fluidKeys.intern(inputFluid)), recipe);
         return recipe;
     }
 
@@ -149,9 +151,9 @@ public class BottlerRecipeManager extends AbstractManager implements IRecipeMana
         if (inputFluid.isEmpty()) {
             return null;
         }
-        validItems.add(convert(inputItem));
-        validFluids.add(inputFluid.getFluid());
-        recipeMap.put(asList(convert(inputItem).hashCode(), FluidHelper.fluidHashcodeNoTag(inputFluid)), recipe);
+        inputFilter.addItem(inputItem);
+        inputFilter.addFluid(inputFluid);
+        recipeMap.put(packItemFluidKey(itemKey(inputItem), fluidKeys.intern(inputFluid)), recipe);
         return recipe;
     }
     // endregion
@@ -208,6 +210,22 @@ public class BottlerRecipeManager extends AbstractManager implements IRecipeMana
             addRecipe((ThermalRecipe) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return new BottlerRecipeManager();
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        BottlerRecipeManager other = (BottlerRecipeManager) builder;
+        recipeMap = other.recipeMap;
+        fluidKeys = other.fluidKeys;
+        inputFilter = other.inputFilter;
+        convertedRecipes = other.convertedRecipes;
+    }
     // endregion
 
     // region CONVERSION
@@ -4,20 +4,19 @@ import cofh.core.fluid.IFluidStackAccess;
 import cofh.core.fluid.PotionFluid;
 import cofh.core.inventory.FalseIInventory;
 import cofh.core.inventory.IItemStackAccess;
-import cofh.core.util.ComparableItemStack;
-import cofh.core.util.helpers.FluidHelper;
 import cofh.thermal.core.ThermalCore;
 import cofh.thermal.core.util.IThermalInventory;
 import cofh.thermal.core.util.managers.AbstractManager;
+import cofh.thermal.core.util.managers.FluidKeyTable;
 import cofh.thermal.core.util.managers.IRecipeManager;
+import cofh.thermal.core.util.managers.InputFilter;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
 import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.core.util.recipes.internal.SimpleMachineRecipe;
 import cofh.thermal.expansion.init.TExpRecipeTypes;
 import cofh.thermal.expansion.util.recipes.machine.BrewerRecipe;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import net.minecraft.fluid.Fluid;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
@@ -33,7 +32,6 @@ import java.util.*;
 
 import static cofh.core.util.constants.Constants.BUCKET_VOLUME;
 import static cofh.core.util.constants.Constants.ID_THERMAL;
-import static java.util.Arrays.asList;
 
 public class BrewerRecipeManager extends AbstractManager implements IRecipeManager {
 
@@ -44,9 +42,9 @@ public class BrewerRecipeManager extends AbstractManager implements IRecipeManag
 
     protected int defaultPotion = BUCKET_VOLUME;
 
-    protected Map<List<Integer>, IMachineRecipe> recipeMap = new Object2ObjectOpenHashMap<>();
-    protected Set<Fluid> validFluids = new ObjectOpenHashSet<>();
-    protected Set<ComparableItemStack> validItems = new ObjectOpenHashSet<>();
+    protected Long2ObjectMap<IMachineRecipe> recipeMap = new Long2ObjectOpenHashMap<>();
+    protected FluidKeyTable fluidKeys = new FluidKeyTable(true);
+    protected InputFilter inputFilter = new InputFilter();
 
     protected int maxOutputItems;
     protected int maxOutputFluids;
@@ -72,19 +70,19 @@ public class BrewerRecipeManager extends AbstractManager implements IRecipeManag
 
     public boolean validItem(ItemStack item) {
 
-        return validItems.contains(convert(item));
+        return inputFilter.mayAccept(item);
     }
 
     public boolean validFluid(FluidStack fluid) {
 
-        return validFluids.contains(fluid.getFluid());
+        return inputFilter.mayAccept(fluid);
     }
 
     protected void clear() {
 
         recipeMap.clear();
-        validFluids.clear();
-        validItems.clear();
+        fluidKeys.clear();
+        inputFilter.clear();
         convertedRecipes.clear();
     }
 
@@ -96,7 +94,8 @@ public class BrewerRecipeManager extends AbstractManager implements IRecipeManag
         }
         ItemStack inputItem = inputSlots.get(0).getItemStack();
         FluidStack inputFluid = inputTanks.get(0).getFluidStack();
-        return recipeMap.get(asList(convert(inputItem).hashCode(), FluidHelper.fluidHashcode(inputFluid)));
+        int fluidKey = fluidKeys.get(inputFluid);
+        return fluidKey == FluidKeyTable.NONE ? null : recipeMap.get(packItemFluidKey(itemKey(inputItem), fluidKey));
     }
 
     protected IMachineRecipe addRecipe(int energy, float experience, int minTicks, List<ItemStack> inputItems, List<FluidStack> inputFluids, List<ItemStack> outputItems, List<Float> chance, List<FluidStack> outputFluids) {
@@ -120,9 +119,9 @@ public class BrewerRecipeManager extends AbstractManager implements IRecipeManag
         energy = (int) (energy * getDefaultScale());
 
         SimpleMachineRecipe recipe = new SimpleMachineRecipe(energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
-        recipeMap.put(asList(convert(inputItem).hashCode(), FluidHelper.fluidHashcode(inputFluid)), recipe);
-        validItems.add(convert(inputItem));
-        validFluids.add(inputFluid.getFluid());
+        recipeMap.put(packItemFluidKey(itemKey(inputItem), fluidKeys.intern(inputFluid)), recipe);
+        inputFilter.addItem(inputItem);
+        inputFilter.addFluid(inputFluid);
         return recipe;
     }
     // endregion
@@ -164,18 +163,50 @@ public class BrewerRecipeManager extends AbstractManager implements IRecipeManag
             addRecipe((ThermalRecipe) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        BrewerRecipeManager builder = new BrewerRecipeManager();
+        builder.defaultPotion = defaultPotion;
+        builder.prevConvertedRecipes = convertedRecipes;
+        builder.prevConvertedKey = convertedKey;
+        return builder;
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        BrewerRecipeManager other = (BrewerRecipeManager) builder;
+        recipeMap = other.recipeMap;
+        fluidKeys = other.fluidKeys;
+        inputFilter = other.inputFilter;
+        convertedRecipes = other.convertedRecipes;
+        convertedKey = other.convertedKey;
+    }
     // endregion
 
     // region CONVERSION
     protected List<BrewerRecipe> convertedRecipes = new ArrayList<>();
+    protected List<BrewerRecipe> prevConvertedRecipes = Collections.emptyList();
+    protected long convertedKey;
+    protected long prevConvertedKey;
 
     public List<BrewerRecipe> getConvertedRecipes() {
 
         return convertedRecipes;
     }
 
+    /**
+     * Converted recipes depend only on the default energy and potion amount, so an unchanged previous build is reused.
+     */
     protected void createConvertedRecipes() {
 
+        convertedKey = ((long) defaultEnergy << 32) | defaultPotion;
+        if (convertedKey == prevConvertedKey && !prevConvertedRecipes.isEmpty()) {
+            convertedRecipes.addAll(prevConvertedRecipes);
+            return;
+        }
         createConvertedRecipe(Potions.WATER, Items.GLISTERING_MELON_SLICE, Potions.MUNDANE);
         createConvertedRecipe(Potions.WATER, Items.GHAST_TEAR, Potions.MUNDANE);
         createConvertedRecipe(Potions.WATER, Items.RABBIT_FOOT, Potions.MUNDANE);
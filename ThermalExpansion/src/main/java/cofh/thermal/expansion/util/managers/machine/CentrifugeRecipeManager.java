@@ -1,6 +1,7 @@
 package cofh.thermal.expansion.util.managers.machine;
 
 import cofh.core.inventory.FalseIInventory;
+import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.managers.SingleItemRecipeManager;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
 import cofh.thermal.expansion.init.TExpRecipeTypes;
@@ -40,5 +41,11 @@ public class CentrifugeRecipeManager extends SingleItemRecipeManager {
             addRecipe((ThermalRecipe) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return new CentrifugeRecipeManager();
+    }
     // endregion
 }
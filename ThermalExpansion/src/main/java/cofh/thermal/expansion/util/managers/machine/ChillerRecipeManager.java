@@ -3,18 +3,17 @@ package cofh.thermal.expansion.util.managers.machine;
 import cofh.core.fluid.IFluidStackAccess;
 import cofh.core.inventory.FalseIInventory;
 import cofh.core.inventory.IItemStackAccess;
-import cofh.core.util.ComparableItemStack;
-import cofh.core.util.helpers.FluidHelper;
 import cofh.thermal.core.util.IThermalInventory;
 import cofh.thermal.core.util.managers.AbstractManager;
+import cofh.thermal.core.util.managers.FluidKeyTable;
 import cofh.thermal.core.util.managers.IRecipeManager;
+import cofh.thermal.core.util.managers.InputFilter;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
 import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.core.util.recipes.internal.SimpleMachineRecipe;
 import cofh.thermal.expansion.init.TExpRecipeTypes;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import net.minecraft.fluid.Fluid;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.RecipeManager;
@@ -23,16 +22,14 @@ import net.minecraftforge.fluids.FluidStack;
 
 import java.util.*;
 
-import static java.util.Arrays.asList;
-
 public class ChillerRecipeManager extends AbstractManager implements IRecipeManager {
 
     private static final ChillerRecipeManager INSTANCE = new ChillerRecipeManager();
     protected static final int DEFAULT_ENERGY = 4000;
 
-    protected Map<List<Integer>, IMachineRecipe> recipeMap = new Object2ObjectOpenHashMap<>();
-    protected Set<Fluid> validFluids = new ObjectOpenHashSet<>();
-    protected Set<ComparableItemStack> validItems = new ObjectOpenHashSet<>();
+    protected Long2ObjectMap<IMachineRecipe> recipeMap = new Long2ObjectOpenHashMap<>();
+    protected FluidKeyTable fluidKeys = new FluidKeyTable(true);
+    protected InputFilter inputFilter = new InputFilter();
 
     protected int maxOutputItems;
     protected int maxOutputFluids;
@@ -62,19 +59,19 @@ public class ChillerRecipeManager extends AbstractManager implements IRecipeMana
 
     public boolean validItem(ItemStack item) {
 
-        return validItems.contains(convert(item));
+        return inputFilter.mayAccept(item);
     }
 
     public boolean validFluid(FluidStack fluid) {
 
-        return validFluids.contains(fluid.getFluid());
+        return inputFilter.mayAccept(fluid);
     }
 
     protected void clear() {
 
         recipeMap.clear();
-        validFluids.clear();
-        validItems.clear();
+        fluidKeys.clear();
+        inputFilter.clear();
     }
 
     // region RECIPES
@@ -85,15 +82,17 @@ public class ChillerRecipeManager extends AbstractManager implements IRecipeMana
         }
         if (inputTanks.isEmpty() || inputTanks.get(0).isEmpty()) {
             ItemStack inputItem = inputSlots.get(0).getItemStack();
-            return recipeMap.get(Collections.singletonList(convert(inputItem).hashCode()));
+            return recipeMap.get(packItemFluidKey(itemKey(inputItem), FluidKeyTable.NONE));
         }
         if (inputSlots.isEmpty() || inputSlots.get(0).isEmpty()) {
             FluidStack inputFluid = inputTanks.get(0).getFluidStack();
-            return recipeMap.get(Collections.singletonList(FluidHelper.fluidHashcode(inputFluid)));
+            int fluidKey = fluidKeys.get(inputFluid);
+            return fluidKey == FluidKeyTable.NONE ? null : recipeMap.get(packItemFluidKey(-1, fluidKey));
         }
         ItemStack inputItem = inputSlots.get(0).getItemStack();
         FluidStack inputFluid = inputTanks.get(0).getFluidStack();
-        return recipeMap.get(asList(convert(inputItem).hashCode(), FluidHelper.fluidHashcode(inputFluid)));
+        int fluidKey = fluidKeys.get(inputFluid);
+        return fluidKey == FluidKeyTable.NONE ? null : recipeMap.get(packItemFluidKey(itemKey(inputItem), fluidKey));
     }
 
     protected IMachineRecipe addRecipe(int energy, float experience, int minTicks, List<ItemStack> inputItems, List<FluidStack> inputFluids, List<ItemStack> outputItems, List<Float> chance, List<FluidStack> outputFluids) {
@@ -101,21 +100,21 @@ public class ChillerRecipeManager extends AbstractManager implements IRecipeMana
         if (inputItems.isEmpty() && inputFluids.isEmpty() || outputItems.size() > maxOutputItems || outputFluids.size() > maxOutputFluids || energy <= 0) {
             return null;
         }
-        List<Integer> key;
+        long key;
         if (inputFluids.isEmpty()) {
             ItemStack inputItem = inputItems.get(0);
             if (inputItem.isEmpty()) {
                 return null;
             }
-            validItems.add(convert(inputItem));
-            key = Collections.singletonList(convert(inputItem).hashCode());
+            inputFilter.addItem(inputItem);
+            key = packItemFluidKey(itemKey(inputItem), FluidKeyTable.NONE);
         } else if (inputItems.isEmpty()) {
             FluidStack inputFluid = inputFluids.get(0);
             if (inputFluid.isEmpty()) {
                 return null;
             }
-            validFluids.add(inputFluid.getFluid());
-            key = Collections.singletonList(FluidHelper.fluidHashcode(inputFluid));
+            inputFilter.addFluid(inputFluid);
+            key = packItemFluidKey(-1, fluidKeys.intern(inputFluid));
         } else {
             ItemStack inputItem = inputItems.get(0);
             if (inputItem.isEmpty()) {
@@ -125,9 +124,9 @@ public class ChillerRecipeManager extends AbstractManager implements IRecipeMana
             if (inputFluid.isEmpty()) {
                 return null;
             }
-            validItems.add(convert(inputItem));
-            validFluids.add(inputFluid.getFluid());
-            key = asList(convert(inputItem).hashCode(), FluidHelper.fluidHashcode(inputFluid));
+            inputFilter.addItem(inputItem);
+            inputFilter.addFluid(inputFluid);
+            key = packItemFluidKey(itemKey(inputItem), fluidKeys.intern(inputFluid));
         }
         for (ItemStack stack : outputItems) {
             if (stack.isEmpty()) {
@@ -171,5 +170,20 @@ public class ChillerRecipeManager extends AbstractManager implements IRecipeMana
             addRecipe((ThermalRecipe) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return new ChillerRecipeManager();
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        ChillerRecipeManager other = (ChillerRecipeManager) builder;
+        recipeMap = other.recipeMap;
+        fluidKeys = other.fluidKeys;
+        inputFilter = other.inputFilter;
+    }
     // endregion
 }
@@ -3,19 +3,31 @@ package cofh.thermal.expansion.util.managers.machine;
 import cofh.thermal.core.util.managers.IManager;
 import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.expansion.util.recipes.machine.CrafterRecipe;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.ICraftingRecipe;
 import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
 import net.minecraftforge.fluids.FluidStack;
 
-import java.util.IdentityHashMap;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static cofh.thermal.core.util.managers.AbstractManager.itemKey;
 
 public class CrafterRecipeManager implements IManager {
 
     private static final CrafterRecipeManager INSTANCE = new CrafterRecipeManager();
     protected static final int DEFAULT_ENERGY = 400;
+    protected static final int GRID_CACHE_SIZE = 512;
 
-    protected IdentityHashMap<IRecipe<?>, CrafterRecipe> recipeMap = new IdentityHashMap<>();
+    protected Reference2ObjectOpenHashMap<IRecipe<?>, CrafterRecipe> recipeMap = new Reference2ObjectOpenHashMap<>();
+    protected Object2ObjectLinkedOpenHashMap<GridKey, ICraftingRecipe> gridCache = new Object2ObjectLinkedOpenHashMap<>();
 
     public static CrafterRecipeManager instance() {
 
@@ -37,10 +49,38 @@ public class CrafterRecipeManager implements IManager {
         if (recipe == null || recipe.isDynamic() || recipe.getRecipeOutput().isEmpty()) {
             return null;
         }
-        if (!recipeMap.containsKey(recipe)) {
-            recipeMap.put(recipe, new CrafterRecipe(DEFAULT_ENERGY, recipe));
+        return recipeMap.computeIfAbsent(recipe, r -> new CrafterRecipe(DEFAULT_ENERGY, r));
+    }
+
+    /**
+     * Equivalent to querying the world's Recipe Manager for a crafting recipe, but results are cached by grid contents
+     * and shared by every Fabricator, so pattern changes and world loads do not rescan every crafting recipe.
+     * <p>
+     * Only hits are cached, and each is confirmed against the actual grid and world. Matching may depend on either, so a
+     * miss in one context says nothing about another.
+     * <p>
+     * Only called on the server thread.
+     */
+    public Optional<ICraftingRecipe> getCraftingRecipe(CraftingInventory grid, World world) {
+
+        GridKey key = GridKey.of(grid);
+        if (key == null) {
+            return world.getRecipeManager().getRecipe(IRecipeType.CRAFTING, grid, world);
+        }
+        ICraftingRecipe cached = gridCache.getAndMoveToLast(key);
+        if (cached != null && cached.matches(grid, world)) {
+            return Optional.of(cached);
+        }
+        Optional<ICraftingRecipe> recipe = world.getRecipeManager().getRecipe(IRecipeType.CRAFTING, grid, world);
+        if (recipe.isPresent()) {
+            gridCache.putAndMoveToLast(key, recipe.get());
+            if (gridCache.size() > GRID_CACHE_SIZE) {
+                gridCache.removeFirst();
+            }
+        } else if (cached != null) {
+            gridCache.remove(key);
         }
-        return recipeMap.get(recipe);
+        return recipe;
     }
 
     // region IManager
@@ -53,6 +93,93 @@ public class CrafterRecipeManager implements IManager {
     public void refresh(RecipeManager recipeManager) {
 
         recipeMap.clear();
+        gridCache.clear();
+    }
+    // endregion
+
+    // region GRID KEY
+
+    /**
+     * Fingerprint of a crafting grid: the item id in each cell of the grid trimmed to its non-empty bounds. Recipes match
+     * at any offset, so trimming makes equivalent placements share a key. Counts are irrelevant to matching.
+     */
+    protected static final class GridKey {
+
+        private final int width;
+        private final int height;
+        private final int[] cells;
+        private final int hash;
+
+        private GridKey(int width, int height, int[] cells) {
+
+            this.width = width;
+            this.height = height;
+            this.cells = cells;
+            this.hash = 31 * (31 * width + height) + Arrays.hashCode(cells);
+        }
+
+        /**
+         * @return null if the grid holds a stack with a tag, as those may match differently despite equal item ids.
+         */
+        @Nullable
+        static GridKey of(CraftingInventory grid) {
+
+            int gridWidth = grid.getWidth();
+            int gridHeight = grid.getHeight();
+            int minX = gridWidth;
+            int minY = gridHeight;
+            int maxX = -1;
+            int maxY = -1;
+
+            for (int y = 0; y < gridHeight; ++y) {
+                for (int x = 0; x < gridWidth; ++x) {
+                    ItemStack stack = grid.getStackInSlot(x + y * gridWidth);
+                    if (stack.isEmpty()) {
+                        continue;
+                    }
+                    if (stack.hasTag()) {
+                        return null;
+                    }
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+            if (maxX < 0) {
+                return new GridKey(0, 0, new int[0]);
+            }
+            int width = maxX - minX + 1;
+            int height = maxY - minY + 1;
+            int[] cells = new int[width * height];
+            for (int y = 0; y < height; ++y) {
+                for (int x = 0; x < width; ++x) {
+                    ItemStack stack = grid.getStackInSlot(minX + x + (minY + y) * gridWidth);
+                    cells[x + y * width] = stack.isEmpty() ? 0 : itemKey(stack) + 1;
+                }
+            }
+            return new GridKey(width, height, cells);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof GridKey)) {
+                return false;
+            }
+            GridKey other = (GridKey) obj;
+            return hash == other.hash && width == other.width && height == other.height && Arrays.equals(cells, other.cells);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hash;
+        }
+
     }
     // endregion
 }
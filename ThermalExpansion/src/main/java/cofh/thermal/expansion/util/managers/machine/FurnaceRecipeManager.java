@@ -2,10 +2,15 @@ package cofh.thermal.expansion.util.managers.machine;
 
 import cofh.core.inventory.FalseIInventory;
 import cofh.thermal.core.ThermalCore;
+import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.managers.SingleItemRecipeManager;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
+import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.expansion.init.TExpRecipeTypes;
 import cofh.thermal.expansion.util.recipes.machine.FurnaceRecipe;
+import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.AbstractCookingRecipe;
@@ -15,6 +20,7 @@ import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.util.ResourceLocation;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -41,8 +47,9 @@ public class FurnaceRecipeManager extends SingleItemRecipeManager {
     @Override
     protected void clear() {
 
-        recipeMap.clear();
+        super.clear();
         convertedRecipes.clear();
+        conversions.clear();
     }
 
     // region IManager
@@ -78,30 +85,59 @@ public class FurnaceRecipeManager extends SingleItemRecipeManager {
         if (defaultFurnaceRecipes) {
             ThermalCore.LOG.debug("Adding default Furnace recipes to the Redstone Furnace...");
             createConvertedRecipes(recipeManager);
-            for (ThermalRecipe recipe : getConvertedRecipes()) {
-                addRecipe(recipe);
-            }
         }
         Map<ResourceLocation, IRecipe<FalseIInventory>> recipes = recipeManager.getRecipes(TExpRecipeTypes.RECIPE_FURNACE);
         for (Map.Entry<ResourceLocation, IRecipe<FalseIInventory>> entry : recipes.entrySet()) {
             addRecipe((ThermalRecipe) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        FurnaceRecipeManager builder = new FurnaceRecipeManager();
+        builder.prevConversions = conversions;
+        return builder;
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        super.publish(builder);
+        FurnaceRecipeManager other = (FurnaceRecipeManager) builder;
+        convertedRecipes = other.convertedRecipes;
+        conversions = other.conversions;
+    }
     // endregion
 
     // region CONVERSION
     protected List<FurnaceRecipe> convertedRecipes = new ArrayList<>();
+    protected Map<ResourceLocation, Conversion> conversions = new Object2ObjectOpenHashMap<>();
+    protected Map<ResourceLocation, Conversion> prevConversions = Collections.emptyMap();
 
     public List<FurnaceRecipe> getConvertedRecipes() {
 
         return convertedRecipes;
     }
 
+    /**
+     * Converts and adds all smelting recipes. Recipes whose id and content are unchanged since the previous build reuse
+     * their earlier conversion, so repeated reloads only convert what actually changed.
+     */
     protected void createConvertedRecipes(RecipeManager recipeManager) {
 
+        int reused = 0;
         for (IRecipe<IInventory> recipe : recipeManager.getRecipes(IRecipeType.SMELTING).values()) {
-            createConvertedRecipe((AbstractCookingRecipe) recipe);
+            AbstractCookingRecipe cookingRecipe = (AbstractCookingRecipe) recipe;
+            Conversion prev = prevConversions.get(cookingRecipe.getId());
+            if (prev != null && prev.matches(cookingRecipe, getEnergy(cookingRecipe), getDefaultScale())) {
+                prev.register(this);
+                ++reused;
+            } else {
+                createConvertedRecipe(cookingRecipe);
+            }
         }
+        ThermalCore.LOG.debug("Reused " + reused + " of " + conversions.size() + " converted Furnace recipes.");
     }
 
     protected boolean createConvertedRecipe(AbstractCookingRecipe recipe) {
@@ -109,16 +145,83 @@ public class FurnaceRecipeManager extends SingleItemRecipeManager {
         if (recipe.isDynamic() || recipe.getRecipeOutput().isEmpty()) {
             return false;
         }
-        convertedRecipes.add(convert(recipe));
+        Conversion conversion = new Conversion(recipe.getId(), convert(recipe), getDefaultScale());
+        addRecipe(conversion.recipe);
+        for (ItemStack stack : conversion.inputs) {
+            IMachineRecipe added = stack.isEmpty() ? null : recipeMap.get(itemKey(stack));
+            if (added != null) {
+                conversion.entries.put(itemKey(stack), added);
+            }
+        }
+        convertedRecipes.add(conversion.recipe);
+        conversions.put(conversion.sourceId, conversion);
         return true;
     }
 
     protected FurnaceRecipe convert(AbstractCookingRecipe recipe) {
 
-        ItemStack recipeOutput = recipe.getRecipeOutput();
-        float experience = recipe.getExperience();
-        int energy = defaultFoodRecipes && recipeOutput.getItem().isFood() ? defaultEnergy / 2 : defaultEnergy;
-        return new FurnaceRecipe(new ResourceLocation(ID_THERMAL, "furnace_" + recipe.getIngredients().get(0).hashCode()), energy, experience, recipe);
+        return new FurnaceRecipe(new ResourceLocation(ID_THERMAL, "furnace_" + recipe.getIngredients().get(0).hashCode()), getEnergy(recipe), recipe.getExperience(), recipe);
+    }
+
+    protected int getEnergy(AbstractCookingRecipe recipe) {
+
+        return defaultFoodRecipes && recipe.getRecipeOutput().getItem().isFood() ? defaultEnergy / 2 : defaultEnergy;
+    }
+    // endregion
+
+    // region CONVERSION CLASS
+
+    /**
+     * A converted smelting recipe together with the entries it added, so that an unchanged recipe can be carried over
+     * to the next build as-is. Content is compared exactly against the incoming recipe; the resolved input stacks are
+     * included, so tag changes are picked up.
+     */
+    protected static class Conversion {
+
+        protected final ResourceLocation sourceId;
+        protected final FurnaceRecipe recipe;
+        protected final ItemStack[] inputs;
+        protected final float scale;
+        protected final Int2ObjectMap<IMachineRecipe> entries = new Int2ObjectArrayMap<>();
+
+        protected Conversion(ResourceLocation sourceId, FurnaceRecipe recipe, float scale) {
+
+            this.sourceId = sourceId;
+            this.recipe = recipe;
+            this.inputs = recipe.getInputItems().get(0).getMatchingStacks();
+            this.scale = scale;
+        }
+
+        protected boolean matches(AbstractCookingRecipe other, int energy, float scale) {
+
+            if (other.isDynamic() || recipe.getEnergy() != energy || this.scale != scale || recipe.getExperience() != Math.max(0.0F, other.getExperience())) {
+                return false;
+            }
+            if (!ItemStack.areItemStacksEqual(recipe.getOutputItems().get(0), other.getRecipeOutput())) {
+                return false;
+            }
+            ItemStack[] otherInputs = other.getIngredients().get(0).getMatchingStacks();
+            if (inputs.length != otherInputs.length) {
+                return false;
+            }
+            for (int i = 0; i < inputs.length; ++i) {
+                if (!ItemStack.areItemStacksEqual(inputs[i], otherInputs[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        protected void register(FurnaceRecipeManager manager) {
+
+            for (Int2ObjectMap.Entry<IMachineRecipe> entry : entries.int2ObjectEntrySet()) {
+                manager.recipeMap.put(entry.getIntKey(), entry.getValue());
+                manager.inputFilter.addItem(entry.getIntKey());
+            }
+            manager.convertedRecipes.add(recipe);
+            manager.conversions.put(sourceId, this);
+        }
+
     }
     // endregion
 }
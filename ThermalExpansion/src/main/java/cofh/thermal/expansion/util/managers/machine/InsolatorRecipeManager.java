@@ -2,6 +2,7 @@ package cofh.thermal.expansion.util.managers.machine;
 
 import cofh.core.inventory.FalseIInventory;
 import cofh.thermal.core.util.IMachineInventory;
+import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.managers.SingleItemRecipeManager;
 import cofh.thermal.core.util.recipes.ThermalCatalyst;
 import cofh.thermal.core.util.recipes.internal.CatalyzedMachineRecipe;
@@ -16,8 +17,7 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -69,7 +69,8 @@ public class InsolatorRecipeManager extends SingleItemRecipeManager.Catalyzed {
         energy = (int) (energy * getDefaultScale());
 
         InternalInsolatorRecipe recipe = new InternalInsolatorRecipe(energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
-        recipeMap.put(convert(input), recipe);
+        recipeMap.put(itemKey(input), recipe);
+        inputFilter.addItem(input);
         return recipe;
     }
     // endregion
@@ -93,6 +94,14 @@ public class InsolatorRecipeManager extends SingleItemRecipeManager.Catalyzed {
             addCatalyst((ThermalCatalyst) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        InsolatorRecipeManager builder = new InsolatorRecipeManager();
+        builder.defaultWater = defaultWater;
+        return builder;
+    }
     // endregion
 
     // region CATALYZED RECIPE
@@ -104,17 +113,13 @@ public class InsolatorRecipeManager extends SingleItemRecipeManager.Catalyzed {
         }
 
         @Override
-        public List<Integer> getInputFluidCounts(IMachineInventory inventory) {
+        public void getInputFluidCounts(IMachineInventory inventory, int[] counts) {
 
             // Ingredient order is guaranteed.
-            if (inputFluids.isEmpty()) {
-                return Collections.emptyList();
-            }
-            ArrayList<Integer> ret = new ArrayList<>(inputFluids.size());
-            for (FluidStack input : inputFluids) {
-                ret.add(input.getAmount());
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < inputFluids.size() && i < counts.length; ++i) {
+                counts[i] = inputFluids.get(i).getAmount();
             }
-            return ret;
         }
 
         @Override
@@ -3,16 +3,16 @@ package cofh.thermal.expansion.util.managers.machine;
 import cofh.core.fluid.IFluidStackAccess;
 import cofh.core.inventory.FalseIInventory;
 import cofh.core.inventory.IItemStackAccess;
-import cofh.core.util.ComparableItemStack;
 import cofh.thermal.core.util.IThermalInventory;
 import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.managers.IRecipeManager;
+import cofh.thermal.core.util.managers.InputFilter;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
 import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.core.util.recipes.internal.SimpleMachineRecipe;
 import cofh.thermal.expansion.init.TExpRecipeTypes;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.RecipeManager;
@@ -28,9 +28,9 @@ public class PressRecipeManager extends AbstractManager implements IRecipeManage
     private static final PressRecipeManager INSTANCE = new PressRecipeManager();
     protected static final int DEFAULT_ENERGY = 2400;
 
-    protected Map<List<ComparableItemStack>, IMachineRecipe> recipeMap = new Object2ObjectOpenHashMap<>();
-    protected Set<ComparableItemStack> validInputs = new ObjectOpenHashSet<>();
-    protected Set<ComparableItemStack> validDies = new ObjectOpenHashSet<>();
+    protected Long2ObjectMap<IMachineRecipe> recipeMap = new Long2ObjectOpenHashMap<>();
+    protected InputFilter validInputs = new InputFilter();
+    protected InputFilter validDies = new InputFilter();
 
     protected int maxOutputItems;
     protected int maxOutputFluids;
@@ -65,12 +65,12 @@ public class PressRecipeManager extends AbstractManager implements IRecipeManage
 
     public boolean validInput(ItemStack item) {
 
-        return validInputs.contains(convert(item));
+        return validInputs.mayAccept(item);
     }
 
     public boolean validDie(ItemStack item) {
 
-        return validDies.contains(convert(item));
+        return validDies.mayAccept(item);
     }
 
     protected void clear() {
@@ -80,26 +80,31 @@ public class PressRecipeManager extends AbstractManager implements IRecipeManage
         validDies.clear();
     }
 
-    protected ArrayList<ComparableItemStack> getKeyFromSlots(List<? extends IItemStackAccess> inputSlots) {
+    protected long getKeyFromSlots(List<? extends IItemStackAccess> inputSlots) {
 
-        ArrayList<ComparableItemStack> key = new ArrayList<>();
+        int[] ids = KEY_SCRATCH.get();
+        int count = 0;
         for (IItemStackAccess slot : inputSlots) {
             if (!slot.isEmpty()) {
-                key.add(convert(slot.getItemStack()));
+                if (count >= MAX_PACKED_ITEMS) {
+                    return INVALID_KEY;
+                }
+                ids[count++] = itemKey(slot.getItemStack());
             }
         }
-        return key;
+        return packItemKeys(ids, count, false);
     }
 
-    protected ArrayList<ComparableItemStack> getKeyFromStacks(List<ItemStack> inputStacks) {
+    protected long getKeyFromStacks(List<ItemStack> inputStacks) {
 
-        ArrayList<ComparableItemStack> key = new ArrayList<>();
+        int[] ids = new int[inputStacks.size()];
+        int count = 0;
         for (ItemStack stack : inputStacks) {
             if (!stack.isEmpty()) {
-                key.add(convert(stack));
+                ids[count++] = itemKey(stack);
             }
         }
-        return key;
+        return packItemKeys(ids, count, false);
     }
 
     protected IMachineRecipe getRecipe(List<? extends IItemStackAccess> inputSlots, List<? extends IFluidStackAccess> inputTanks) {
@@ -128,15 +133,19 @@ public class PressRecipeManager extends AbstractManager implements IRecipeManage
                 return null;
             }
         }
+        long key = getKeyFromStacks(inputItems);
+        if (key == INVALID_KEY) {
+            return null;
+        }
         energy = (int) (energy * getDefaultScale());
 
         SimpleMachineRecipe recipe = new SimpleMachineRecipe(energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
-        validInputs.add(convert(inputItems.get(0)));
+        validInputs.addItem(inputItems.get(0));
 
         if (inputItems.size() > 1 && !inputItems.get(1).isEmpty()) {
-            validDies.add(convert(inputItems.get(1)));
+            validDies.addItem(inputItems.get(1));
         }
-        recipeMap.put(getKeyFromStacks(inputItems), recipe);
+        recipeMap.put(key, recipe);
         return recipe;
     }
 
@@ -169,5 +178,20 @@ public class PressRecipeManager extends AbstractManager implements IRecipeManage
             addRecipe((ThermalRecipe) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return new PressRecipeManager();
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        PressRecipeManager other = (PressRecipeManager) builder;
+        recipeMap = other.recipeMap;
+        validInputs = other.validInputs;
+        validDies = other.validDies;
+    }
     // endregion
 }
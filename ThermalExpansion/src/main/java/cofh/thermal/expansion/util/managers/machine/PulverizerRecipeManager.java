@@ -1,6 +1,7 @@
 package cofh.thermal.expansion.util.managers.machine;
 
 import cofh.core.inventory.FalseIInventory;
+import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.managers.SingleItemRecipeManager;
 import cofh.thermal.core.util.recipes.ThermalCatalyst;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
@@ -57,7 +58,8 @@ public class PulverizerRecipeManager extends SingleItemRecipeManager.Catalyzed {
         energy = (int) (energy * getDefaultScale());
 
         InternalPulverizerRecipe recipe = new InternalPulverizerRecipe(energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
-        recipeMap.put(convert(input), recipe);
+        recipeMap.put(itemKey(input), recipe);
+        inputFilter.addItem(input);
         return recipe;
     }
     // endregion
@@ -81,6 +83,12 @@ public class PulverizerRecipeManager extends SingleItemRecipeManager.Catalyzed {
             addCatalyst((ThermalCatalyst) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return new PulverizerRecipeManager();
+    }
     // endregion
 
     // region CATALYZED RECIPE
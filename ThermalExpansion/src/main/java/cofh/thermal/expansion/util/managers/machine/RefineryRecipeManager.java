@@ -8,6 +8,7 @@ import cofh.core.util.helpers.FluidHelper;
 import cofh.thermal.core.util.IThermalInventory;
 import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.managers.IRecipeManager;
+import cofh.thermal.core.util.managers.InputFilter;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
 import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.core.util.recipes.internal.SimpleMachineRecipe;
@@ -30,6 +31,7 @@ public class RefineryRecipeManager extends AbstractManager implements IRecipeMan
     protected static final int DEFAULT_ENERGY = 8000;
 
     protected Map<Integer, IMachineRecipe> recipeMap = new Object2ObjectOpenHashMap<>();
+    protected InputFilter inputFilter = new InputFilter();
 
     protected int maxOutputItems;
     protected int maxOutputFluids;
@@ -53,12 +55,13 @@ public class RefineryRecipeManager extends AbstractManager implements IRecipeMan
 
     public boolean validRecipe(FluidStack input) {
 
-        return getRecipe(input) != null;
+        return inputFilter.mayAccept(input) && getRecipe(input) != null;
     }
 
     protected void clear() {
 
         recipeMap.clear();
+        inputFilter.clear();
     }
 
     protected IMachineRecipe getRecipe(FluidStack input) {
@@ -98,6 +101,7 @@ public class RefineryRecipeManager extends AbstractManager implements IRecipeMan
 
         SimpleMachineRecipe recipe = new SimpleMachineRecipe(energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
         recipeMap.put(FluidHelper.fluidHashcode(input), recipe);
+        inputFilter.addFluid(input);
         return recipe;
     }
 
@@ -130,5 +134,19 @@ public class RefineryRecipeManager extends AbstractManager implements IRecipeMan
             addRecipe((ThermalRecipe) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return new RefineryRecipeManager();
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        RefineryRecipeManager other = (RefineryRecipeManager) builder;
+        recipeMap = other.recipeMap;
+        inputFilter = other.inputFilter;
+    }
     // endregion
 }
@@ -3,10 +3,12 @@ package cofh.thermal.expansion.util.managers.machine;
 import cofh.core.fluid.IFluidStackAccess;
 import cofh.core.inventory.FalseIInventory;
 import cofh.core.inventory.IItemStackAccess;
-import cofh.core.util.ComparableItemStack;
+import cofh.thermal.core.util.IMachineInventory;
 import cofh.thermal.core.util.IThermalInventory;
 import cofh.thermal.core.util.managers.AbstractManager;
 import cofh.thermal.core.util.managers.IRecipeManager;
+import cofh.thermal.core.util.managers.InputFilter;
+import cofh.thermal.core.util.managers.IngredientIndex;
 import cofh.thermal.core.util.recipes.ThermalCatalyst;
 import cofh.thermal.core.util.recipes.ThermalRecipe;
 import cofh.thermal.core.util.recipes.internal.BaseMachineCatalyst;
@@ -14,10 +16,12 @@ import cofh.thermal.core.util.recipes.internal.CatalyzedMachineRecipe;
 import cofh.thermal.core.util.recipes.internal.IMachineRecipe;
 import cofh.thermal.core.util.recipes.internal.IRecipeCatalyst;
 import cofh.thermal.expansion.init.TExpRecipeTypes;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fluids.FluidStack;
@@ -25,16 +29,14 @@ import net.minecraftforge.fluids.FluidStack;
 import javax.annotation.Nullable;
 import java.util.*;
 
-import static java.util.Arrays.asList;
-
 public class SmelterRecipeManager extends AbstractManager implements IRecipeManager {
 
     private static final SmelterRecipeManager INSTANCE = new SmelterRecipeManager();
     protected static final int DEFAULT_ENERGY = 3200;
 
-    protected Object2ObjectOpenHashMap<SmelterMapWrapper, IMachineRecipe> recipeMap = new Object2ObjectOpenHashMap<>();
-    protected Map<ComparableItemStack, IRecipeCatalyst> catalystMap = new Object2ObjectOpenHashMap<>();
-    protected Set<ComparableItemStack> validItems = new ObjectOpenHashSet<>();
+    protected IngredientIndex<IMachineRecipe> recipeIndex;
+    protected Int2ObjectMap<IRecipeCatalyst> catalystMap = new Int2ObjectOpenHashMap<>();
+    protected InputFilter inputFilter = new InputFilter();
 
     protected int maxInputItems;
     protected int maxOutputItems;
@@ -51,46 +53,24 @@ public class SmelterRecipeManager extends AbstractManager implements IRecipeMana
         this.maxInputItems = 3;
         this.maxOutputItems = 4;
         this.maxOutputFluids = 0;
+        this.recipeIndex = new IngredientIndex<>(maxInputItems);
     }
 
     public void addRecipe(ThermalRecipe recipe) {
 
-        switch (recipe.getInputItems().size()) {
-            case 1:
-                for (ItemStack firstInput : recipe.getInputItems().get(0).getMatchingStacks()) {
-                    addRecipe(recipe.getEnergy(), recipe.getExperience(), recipe.getMinTicks(), Collections.singletonList(firstInput), recipe.getInputFluids(), recipe.getOutputItems(), recipe.getOutputItemChances(), recipe.getOutputFluids());
-                }
-                return;
-            case 2:
-                for (ItemStack firstInput : recipe.getInputItems().get(0).getMatchingStacks()) {
-                    for (ItemStack secondInput : recipe.getInputItems().get(1).getMatchingStacks()) {
-                        addRecipe(recipe.getEnergy(), recipe.getExperience(), recipe.getMinTicks(), asList(firstInput, secondInput), recipe.getInputFluids(), recipe.getOutputItems(), recipe.getOutputItemChances(), recipe.getOutputFluids());
-                    }
-                }
-                return;
-            case 3:
-                for (ItemStack firstInput : recipe.getInputItems().get(0).getMatchingStacks()) {
-                    for (ItemStack secondInput : recipe.getInputItems().get(1).getMatchingStacks()) {
-                        for (ItemStack thirdInput : recipe.getInputItems().get(2).getMatchingStacks()) {
-                            addRecipe(recipe.getEnergy(), recipe.getExperience(), recipe.getMinTicks(), asList(firstInput, secondInput, thirdInput), recipe.getInputFluids(), recipe.getOutputItems(), recipe.getOutputItemChances(), recipe.getOutputFluids());
-                        }
-                    }
-                }
-                return;
-            default:
-        }
+        addRecipe(recipe.getEnergy(), recipe.getExperience(), recipe.getMinTicks(), recipe.getInputItems(), recipe.getInputFluids(), recipe.getOutputItems(), recipe.getOutputItemChances(), recipe.getOutputFluids());
     }
 
     public boolean validItem(ItemStack item) {
 
-        return validItems.contains(convert(item));
+        return inputFilter.mayAccept(item);
     }
 
     protected void clear() {
 
-        recipeMap.clear();
+        recipeIndex.clear();
         catalystMap.clear();
-        validItems.clear();
+        inputFilter.clear();
     }
 
     // region RECIPES
@@ -99,26 +79,26 @@ public class SmelterRecipeManager extends AbstractManager implements IRecipeMana
         if (inputSlots.isEmpty()) {
             return null;
         }
-        List<ComparableItemStack> convertedItems = new ArrayList<>(maxInputItems);
+        int[] ids = KEY_SCRATCH.get();
+        int count = 0;
         for (int i = 0; i < maxInputItems; ++i) {
             if (!inputSlots.get(i).isEmpty()) {
-                ComparableItemStack compStack = convert(inputSlots.get(i).getItemStack());
-                convertedItems.add(compStack);
+                ids[count++] = itemKey(inputSlots.get(i).getItemStack());
             }
         }
-        if (convertedItems.isEmpty()) {
+        if (count == 0) {
             return null;
         }
-        return recipeMap.get(new SmelterMapWrapper(convertedItems));
+        return recipeIndex.get(ids, count);
     }
 
-    protected IMachineRecipe addRecipe(int energy, float experience, int minTicks, List<ItemStack> inputItems, List<FluidStack> inputFluids, List<ItemStack> outputItems, List<Float> chance, List<FluidStack> outputFluids) {
+    protected IMachineRecipe addRecipe(int energy, float experience, int minTicks, List<Ingredient> inputItems, List<FluidStack> inputFluids, List<ItemStack> outputItems, List<Float> chance, List<FluidStack> outputFluids) {
 
-        if (inputItems.isEmpty() || outputItems.isEmpty() && outputFluids.isEmpty() || outputItems.size() > maxOutputItems || outputFluids.size() > maxOutputFluids || energy <= 0) {
+        if (inputItems.isEmpty() || inputItems.size() > maxInputItems || outputItems.isEmpty() && outputFluids.isEmpty() || outputItems.size() > maxOutputItems || outputFluids.size() > maxOutputFluids || energy <= 0) {
             return null;
         }
-        for (ItemStack stack : inputItems) {
-            if (stack.isEmpty()) {
+        for (Ingredient ingredient : inputItems) {
+            if (ingredient.hasNoMatchingItems()) {
                 return null;
             }
         }
@@ -134,16 +114,15 @@ public class SmelterRecipeManager extends AbstractManager implements IRecipeMana
         }
         energy = (int) (energy * getDefaultScale());
 
-        List<ComparableItemStack> convertedItems = new ArrayList<>(inputItems.size());
-        for (ItemStack stack : inputItems) {
-            if (!inputItems.isEmpty()) {
-                ComparableItemStack compStack = convert(stack);
-                validItems.add(compStack);
-                convertedItems.add(compStack);
+        InternalSmelterRecipe recipe = new InternalSmelterRecipe(recipeIndex, energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
+        if (!recipeIndex.add(inputItems, recipe)) {
+            return null;
+        }
+        for (Ingredient ingredient : inputItems) {
+            for (ItemStack stack : ingredient.getMatchingStacks()) {
+                inputFilter.addItem(stack);
             }
         }
-        InternalSmelterRecipe recipe = new InternalSmelterRecipe(energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
-        recipeMap.put(new SmelterMapWrapper(convertedItems), recipe);
         return recipe;
     }
     // endregion
@@ -151,19 +130,19 @@ public class SmelterRecipeManager extends AbstractManager implements IRecipeMana
     public List<ItemStack> getCatalysts() {
 
         List<ItemStack> ret = new ArrayList<>(catalystMap.size());
-        catalystMap.keySet().forEach(stack -> ret.add(stack.toItemStack()));
+        catalystMap.keySet().forEach(id -> ret.add(new ItemStack(Item.getItemById(id))));
         return ret;
     }
 
     // region CATALYSTS
     public IRecipeCatalyst getCatalyst(IItemStackAccess input) {
 
-        return catalystMap.get(convert(input.getItemStack()));
+        return getCatalyst(input.getItemStack());
     }
 
     public IRecipeCatalyst getCatalyst(ItemStack input) {
 
-        return catalystMap.get(convert(input));
+        return input.isEmpty() ? null : catalystMap.get(itemKey(input));
     }
 
     public void addCatalyst(ThermalCatalyst catalyst) {
@@ -179,7 +158,7 @@ public class SmelterRecipeManager extends AbstractManager implements IRecipeMana
             return null;
         }
         BaseMachineCatalyst catalyst = new BaseMachineCatalyst(primaryMod, secondaryMod, energyMod, minChance, useChance);
-        catalystMap.put(convert(input), catalyst);
+        catalystMap.put(itemKey(input), catalyst);
         return catalyst;
     }
 
@@ -190,7 +169,7 @@ public class SmelterRecipeManager extends AbstractManager implements IRecipeMana
 
     public IRecipeCatalyst removeCatalyst(ItemStack input) {
 
-        return catalystMap.remove(convert(input));
+        return catalystMap.remove(itemKey(input));
     }
     // endregion
 
@@ -204,7 +183,7 @@ public class SmelterRecipeManager extends AbstractManager implements IRecipeMana
     @Override
     public List<IMachineRecipe> getRecipeList() {
 
-        return new ArrayList<>(recipeMap.values());
+        return new ArrayList<>(recipeIndex.getRecipes());
     }
     // endregion
 
@@ -227,59 +206,91 @@ public class SmelterRecipeManager extends AbstractManager implements IRecipeMana
             addCatalyst((ThermalCatalyst) entry.getValue());
         }
     }
+
+    @Override
+    protected AbstractManager createBuilder() {
+
+        return new SmelterRecipeManager();
+    }
+
+    @Override
+    protected void publish(AbstractManager builder) {
+
+        SmelterRecipeManager other = (SmelterRecipeManager) builder;
+        recipeIndex = other.recipeIndex;
+        catalystMap = other.catalystMap;
+        inputFilter = other.inputFilter;
+    }
     // endregion
 
-    // region WRAPPER CLASS
-    protected static class SmelterMapWrapper {
+    // region CATALYZED RECIPE
+    protected static class InternalSmelterRecipe extends CatalyzedMachineRecipe {
 
-        Set<Integer> itemHashes;
-        int hashCode;
+        protected final IngredientIndex<IMachineRecipe> index;
+        protected final List<Ingredient> ingredients;
 
-        SmelterMapWrapper(List<ComparableItemStack> itemStacks) {
+        public InternalSmelterRecipe(IngredientIndex<IMachineRecipe> index, int energy, float experience, int minTicks, List<Ingredient> ingredients, @Nullable List<FluidStack> inputFluids, @Nullable List<ItemStack> outputItems, @Nullable List<Float> chance, @Nullable List<FluidStack> outputFluids) {
 
-            this.itemHashes = new ObjectOpenHashSet<>(itemStacks.size());
-            for (ComparableItemStack itemStack : itemStacks) {
-                if (itemStack.hashCode() != 0) {
-                    this.itemHashes.add(itemStack.hashCode());
-                    hashCode += itemStack.hashCode();
-                }
-            }
+            super(3, energy, experience, minTicks, getFirstStacks(ingredients), inputFluids, outputItems, chance, outputFluids);
+            this.index = index;
+            this.ingredients = ingredients;
         }
 
         @Override
-        public boolean equals(Object o) {
+        public IRecipeCatalyst getCatalyst(ItemStack input) {
 
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            SmelterMapWrapper that = (SmelterMapWrapper) o;
-            return itemHashes.size() == that.itemHashes.size() && itemHashes.containsAll(that.itemHashes);
+            return instance().getCatalyst(input);
         }
 
+        /**
+         * One recipe serves every matching combination, so counts come from whichever stack of each ingredient is
+         * actually present - as assigned by the index, which also resolves inputs that fit more than one ingredient.
+         */
         @Override
-        public int hashCode() {
-
-            return hashCode;
+        public void getInputItemCounts(IMachineInventory inventory, int[] counts) {
+
+            Arrays.fill(counts, 0);
+            int slots = Math.min(counts.length, catalystSlot);
+            int[] ids = new int[slots];
+            int count = 0;
+            for (int j = 0; j < slots; ++j) {
+                ItemStack slotStack = inventory.inputSlots().get(j).getItemStack();
+                if (!slotStack.isEmpty()) {
+                    ids[count++] = itemKey(slotStack);
+                }
+            }
+            int[] assignment = new int[ingredients.size()];
+            if (index.assign(this, ids, count, assignment)) {
+                for (int i = 0; i < ingredients.size(); ++i) {
+                    for (int j = 0; j < slots; ++j) {
+                        ItemStack slotStack = inventory.inputSlots().get(j).getItemStack();
+                        if (counts[j] == 0 && !slotStack.isEmpty() && itemKey(slotStack) == assignment[i]) {
+                            counts[j] = getCount(ingredients.get(i), slotStack);
+                            break;
+                        }
+                    }
+                }
+            }
+            getCatalystItemCount(inventory, counts);
         }
 
-    }
-    // endregion
-
-    // region CATALYZED RECIPE
-    protected static class InternalSmelterRecipe extends CatalyzedMachineRecipe {
-
-        public InternalSmelterRecipe(int energy, float experience, int minTicks, @Nullable List<ItemStack> inputItems, @Nullable List<FluidStack> inputFluids, @Nullable List<ItemStack> outputItems, @Nullable List<Float> chance, @Nullable List<FluidStack> outputFluids) {
+        protected static int getCount(Ingredient ingredient, ItemStack slotStack) {
 
-            super(3, energy, experience, minTicks, inputItems, inputFluids, outputItems, chance, outputFluids);
+            for (ItemStack stack : ingredient.getMatchingStacks()) {
+                if (stack.getItem() == slotStack.getItem()) {
+                    return stack.getCount();
+                }
+            }
+            return 1;
         }
 
-        @Override
-        public IRecipeCatalyst getCatalyst(ItemStack input) {
+        protected static List<ItemStack> getFirstStacks(List<Ingredient> ingredients) {
 
-            return instance().getCatalyst(input);
+            List<ItemStack> ret = new ArrayList<>(ingredients.size());
+            for (Ingredient ingredient : ingredients) {
+                ret.add(ingredient.getMatchingStacks()[0]);
+            }
+            return ret;
         }
 
     }
@@ -6,6 +6,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -34,12 +35,12 @@ public class BottlerRecipeNBT extends BaseMachineRecipe {
     }
 
     @Override
-    public List<Integer> getInputFluidCounts(IMachineInventory inventory) {
+    public void getInputFluidCounts(IMachineInventory inventory, int[] counts) {
 
-        if (inputFluids.isEmpty()) {
-            return Collections.emptyList();
+        Arrays.fill(counts, 0);
+        if (!inputFluids.isEmpty()) {
+            counts[0] = inputFluids.get(0).getAmount();
         }
-        return Collections.singletonList(inputFluids.get(0).getAmount());
     }
 
 }
@@ -11,13 +11,10 @@ import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidUtil;
-import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static cofh.core.util.constants.Constants.BASE_CHANCE_LOCKED;
 import static cofh.core.util.helpers.ItemHelper.itemsEqual;
@@ -29,9 +26,6 @@ public class CrafterRecipe extends BaseMachineRecipe {
     protected final Set<ComparableItemStack> validItems = new ObjectOpenHashSet<>();
     protected Set<Fluid> validFluids = new ObjectOpenHashSet<>();
 
-    public static final List<Float> CHANCE = Collections.singletonList(1.0F);
-    public static final Pair<List<Integer>, List<Integer>> EMPTY_PAIR = Pair.of(Collections.emptyList(), Collections.emptyList());
-
     public CrafterRecipe(int energy, IRecipe<?> recipe) {
 
         super(energy, 0, 0);
@@ -63,22 +57,25 @@ public class CrafterRecipe extends BaseMachineRecipe {
     }
 
     @Override
-    public List<Float> getOutputItemChances(IMachineInventory inventory) {
+    public int getOutputItemChances(IMachineInventory inventory, float[] chances) {
 
-        return CHANCE;
+        chances[0] = 1.0F;
+        return 1;
     }
 
     @Override
-    public Pair<List<Integer>, List<Integer>> getInputItemAndFluidCounts(IMachineInventory inventory) {
+    public boolean getInputItemAndFluidCounts(IMachineInventory inventory, int[] itemCounts, int[] fluidCounts) {
+
+        Arrays.fill(itemCounts, 0);
+        Arrays.fill(fluidCounts, 0);
 
         if (ingredients.isEmpty()) {
-            return EMPTY_PAIR;
+            return false;
         }
         int found = 0;
 
         int storedFluidAmount = inventory.inputTanks().get(0).getAmount();
 
-        int[] retItems = new int[inventory.inputSlots().size()];
         boolean foundItem = false;
         int retFluid = 0;
 
@@ -96,10 +93,10 @@ public class CrafterRecipe extends BaseMachineRecipe {
                             break;
                         }
                         int curFound = found;
-                        for (int j = 0; j < retItems.length; ++j) {
+                        for (int j = 0; j < itemCounts.length; ++j) {
                             ItemStack inSlot = inventory.inputSlots().get(j).getItemStack();
-                            if (inSlot.getCount() > retItems[j] && itemsEqual(stack, inSlot)) {
-                                ++retItems[j];
+                            if (inSlot.getCount() > itemCounts[j] && itemsEqual(stack, inSlot)) {
+                                ++itemCounts[j];
                                 ++found;
                                 foundItem = true;
                                 break;
@@ -118,10 +115,10 @@ public class CrafterRecipe extends BaseMachineRecipe {
                 } else {
                     for (ItemStack stack : ing.getMatchingStacks()) {
                         int curFound = found;
-                        for (int j = 0; j < retItems.length; ++j) {
+                        for (int j = 0; j < itemCounts.length; ++j) {
                             ItemStack inSlot = inventory.inputSlots().get(j).getItemStack();
-                            if (inSlot.getCount() > retItems[j] && itemsEqual(stack, inSlot)) {
-                                ++retItems[j];
+                            if (inSlot.getCount() > itemCounts[j] && itemsEqual(stack, inSlot)) {
+                                ++itemCounts[j];
                                 ++found;
                                 foundItem = true;
                                 break;
@@ -134,12 +131,12 @@ public class CrafterRecipe extends BaseMachineRecipe {
                 }
             }
         }
-        if (found < ingredients.size()) {
-            return EMPTY_PAIR;
+        if (found < ingredients.size() || !foundItem && retFluid <= 0) {
+            Arrays.fill(itemCounts, 0);
+            return false;
         }
-        List<Integer> itemCounts = foundItem ? IntStream.of(retItems).boxed().collect(Collectors.toList()) : Collections.emptyList();
-        List<Integer> fluidCounts = retFluid > 0 ? Collections.singletonList(retFluid) : Collections.emptyList();
-        return Pair.of(itemCounts, fluidCounts);
+        fluidCounts[0] = retFluid;
+        return true;
     }
 
 }